@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Lookups of skewed keys (a few are hot, most are rare) through a memoization of 1000 entries,
+ * against Guava's LRU cache of the same size and an unbounded ConcurrentHashMap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MemoizedFunctionBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private static final int MASK = (1 << 16) - 1;
+
+    private final int[] keys = new int[MASK + 1];
+
+    {
+        Random random = new Random(1);
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (int) (Math.pow(random.nextDouble(), 4) * 100_000);
+        }
+    }
+
+    private final Function<Integer, Integer> function = i -> i * 31;
+
+    private final MemoizedFunction<Integer, Integer> memoized = ServiceInvokes.memoize(function, SIZE);
+
+    private final LoadingCache<Integer, Integer> guava = CacheBuilder.newBuilder().maximumSize(SIZE)
+        .build(CacheLoader.from(function::apply));
+
+    private final ConcurrentHashMap<Integer, Integer> map = new ConcurrentHashMap<>();
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+    }
+
+    @Benchmark
+    public Integer memoized(Cursor cursor) {
+        return memoized.apply(keys[cursor.next++ & MASK]);
+    }
+
+    @Benchmark
+    public Integer guavaCache(Cursor cursor) {
+        return guava.getUnchecked(keys[cursor.next++ & MASK]);
+    }
+
+    @Benchmark
+    public Integer unboundedMap(Cursor cursor) {
+        return map.computeIfAbsent(keys[cursor.next++ & MASK], function);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Call storms of 16 threads on the protected suppliers, against Guava's RateLimiter, which synchronizes on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ServiceInvokesBenchmark {
+
+    private final Supplier<Object> throttled = ServiceInvokes.throttle(Object::new, 10, TimeUnit.MILLISECONDS);
+
+    private final Supplier<Object> cached = ServiceInvokes.cached(Object::new, 10, TimeUnit.MILLISECONDS);
+
+    private final Supplier<Object> cachedAsync = ServiceInvokes.cachedAsync(Object::new, 10, TimeUnit.MILLISECONDS,
+        ForkJoinPool.commonPool());
+
+    private final Supplier<Object> rateLimited = ServiceInvokes.rateLimited(Object::new, 1000, () -> null);
+
+    private final RateLimiter rateLimiter = RateLimiter.create(1000);
+
+    @Benchmark
+    public Object throttle() {
+        return throttled.get();
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cached.get();
+    }
+
+    @Benchmark
+    public Object cachedAsync() {
+        return cachedAsync.get();
+    }
+
+    @Benchmark
+    public Object rateLimited() {
+        return rateLimited.get();
+    }
+
+    @Benchmark
+    public Object guavaRateLimiter() {
+        return rateLimiter.tryAcquire() ? new Object() : null;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Runs the benchmarks with the allocation profiler ({@code -prof gc}) turned on and writes the result as JSON,
+ * so that it can be compared against {@code baseline/baseline.json} by {@link CompareResults}.
+ *
+ * Usage: {@code java -cp benchmarks.jar io.github.javajerrat.boost.bench.Benchmarks [include-regexp] [result-file]}
+ */
+public class Benchmarks {
+
+    public Benchmarks() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder builder = new OptionsBuilder()
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(args.length > 1 ? args[1] : DEFAULT_RESULT_FILE);
+        if (args.length > 0) {
+            builder.include(args[0]);
+        }
+        new Runner(builder.build()).run();
+    }
+}
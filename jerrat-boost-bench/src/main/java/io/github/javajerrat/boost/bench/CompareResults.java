@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Compare two JMH JSON results (see {@link Benchmarks}) and print the change of every benchmark.
+ *
+ * A benchmark is reported as a regression if its score gets worse by more than the threshold
+ * (10% by default) and the difference is larger than the sum of both score errors,
+ * or if its normalized allocation ({@code ·gc.alloc.rate.norm}) grows by more than the threshold.
+ * The process exits with status 1 if any regression is found.
+ *
+ * Usage: {@code java -cp benchmarks.jar io.github.javajerrat.boost.bench.CompareResults <baseline.json> <current.json> [threshold]}
+ */
+public class CompareResults {
+
+    public CompareResults() {
+        throw new UnsupportedOperationException();
+    }
+
+    private static final String ALLOC_METRIC = "·gc.alloc.rate.norm";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CompareResults <baseline.json> <current.json> [threshold]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.10;
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        int regressions = 0;
+        for (Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-90s %s%n", entry.getKey(), "NEW");
+                continue;
+            }
+
+            boolean higherIsBetter = !"avgt".equals(now.path("mode").asText())
+                && !"sample".equals(now.path("mode").asText())
+                && !"ss".equals(now.path("mode").asText());
+            JsonNode beforeMetric = before.path("primaryMetric");
+            JsonNode nowMetric = now.path("primaryMetric");
+            double beforeScore = beforeMetric.path("score").asDouble();
+            double nowScore = nowMetric.path("score").asDouble();
+            double change = beforeScore == 0 ? 0 : (nowScore - beforeScore) / beforeScore;
+            double worse = higherIsBetter ? -change : change;
+            double errors = safeError(beforeMetric) + safeError(nowMetric);
+            boolean scoreRegression = worse > threshold && Math.abs(nowScore - beforeScore) > errors;
+
+            double beforeAlloc = before.path("secondaryMetrics").path(ALLOC_METRIC).path("score").asDouble(0);
+            double nowAlloc = now.path("secondaryMetrics").path(ALLOC_METRIC).path("score").asDouble(0);
+            // A few bytes of noise per operation is normal for the profiler
+            boolean allocRegression = nowAlloc - beforeAlloc > Math.max(16, beforeAlloc * threshold);
+
+            boolean regression = scoreRegression || allocRegression;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-90s %+8.2f%%  %12.3f -> %12.3f %-10s alloc %10.1f -> %10.1f B/op %s%n",
+                entry.getKey(), change * 100, beforeScore, nowScore, nowMetric.path("scoreUnit").asText(),
+                beforeAlloc, nowAlloc, regression ? "REGRESSION" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("%-90s %s%n", key, "MISSING");
+            }
+        }
+
+        System.out.printf("%d regression(s) with threshold %.0f%%%n", regressions, threshold * 100);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static double safeError(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    /**
+     * @return Results keyed by benchmark name, parameters and thread count
+     */
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode node : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(node.path("benchmark").asText());
+            JsonNode params = node.path("params");
+            for (Iterator<Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+                Entry<String, JsonNode> param = it.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            key.append(" t=").append(node.path("threads").asInt(1));
+            results.put(key.toString(), node);
+        }
+        return results;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * 16 bytes is a digest/key, 256 bytes a token or signature, 4096 bytes a small payload.
+ * The *Legacy benchmarks keep the previous Integer.toHexString/Integer.parseInt implementation for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecsBenchmark {
+
+    @Param({"16", "256", "4096"})
+    private int size;
+
+    private byte[] bytes;
+
+    private String hex;
+
+    private String base64;
+
+    private ByteBuffer direct;
+
+    private StringBuilder sink;
+
+    @Setup
+    public void setup() {
+        bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        hex = Codecs.byte2Hex(bytes);
+        base64 = Codecs.base64Encode(bytes);
+        direct = ByteBuffer.allocateDirect(size);
+        direct.put(bytes).flip();
+        sink = new StringBuilder(size * 2);
+    }
+
+    @Benchmark
+    public String byte2Hex() {
+        return Codecs.byte2Hex(bytes);
+    }
+
+    @Benchmark
+    public byte[] hex2Bytes() {
+        return Codecs.hex2Bytes(hex);
+    }
+
+    @Benchmark
+    public String byte2HexDirectBuffer() {
+        return Codecs.byte2Hex(direct);
+    }
+
+    @Benchmark
+    public StringBuilder byte2HexAppendable() throws IOException {
+        sink.setLength(0);
+        return Codecs.byte2Hex(bytes, 0, bytes.length, sink);
+    }
+
+    @Benchmark
+    public ByteBuffer hex2BytesDirectBuffer() {
+        direct.clear();
+        Codecs.hex2Bytes(hex, direct);
+        return direct;
+    }
+
+    @Benchmark
+    public String byte2HexLegacy() {
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            String hexString = Integer.toHexString(0x00ff & b);
+            sb.append(hexString.length() == 1 ? 0 : "").append(hexString);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public byte[] hex2BytesLegacy() {
+        byte[] sourceBytes = new byte[hex.length() / 2];
+        for (int i = 0; i < sourceBytes.length; i++) {
+            sourceBytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return sourceBytes;
+    }
+
+    @Benchmark
+    public String base64Encode() {
+        return Codecs.base64Encode(bytes);
+    }
+
+    @Benchmark
+    public byte[] base64Decode() {
+        return Codecs.base64Decode(base64);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import com.google.common.io.BaseEncoding;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Transcoding a 1MB payload from a stream to a stream, against the Guava encoding stream wrapped around a Writer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamingCodecBenchmark {
+
+    private byte[] payload;
+
+    private byte[] base64Payload;
+
+    @Setup
+    public void setup() {
+        payload = new byte[1024 * 1024];
+        new Random(42).nextBytes(payload);
+        base64Payload = BaseEncoding.base64().encode(payload).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long base64Encode() throws IOException {
+        return StreamingCodec.base64().encode(new ByteArrayInputStream(payload), ByteStreams.nullOutputStream());
+    }
+
+    @Benchmark
+    public long base64EncodeGuavaStream() throws IOException {
+        Writer writer = new OutputStreamWriter(ByteStreams.nullOutputStream(), StandardCharsets.US_ASCII);
+        try (OutputStream out = BaseEncoding.base64().encodingStream(writer)) {
+            return ByteStreams.copy(new ByteArrayInputStream(payload), out);
+        }
+    }
+
+    @Benchmark
+    public long base64Decode() throws IOException {
+        return StreamingCodec.base64().decode(new ByteArrayInputStream(base64Payload), ByteStreams.nullOutputStream());
+    }
+
+    @Benchmark
+    public long base64DecodeJdkStream() throws IOException {
+        return ByteStreams.copy(Base64.getDecoder().wrap(new ByteArrayInputStream(base64Payload)), ByteStreams.nullOutputStream());
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Time ordered ids generated by 32 threads at once, against {@link UUID#randomUUID()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class TimeOrderedIdsBenchmark {
+
+    /**
+     * The default tolerance would make the 32 threads wait for the clock as soon as they outrun 4096 ids per millisecond,
+     * which measures the clock instead of the generator.
+     */
+    private final SnowflakeIdGenerator snowflake = SnowflakeIdGenerator.of(SnowflakeIdGenerator.Config.of()
+        .workerId(1)
+        .clockBackwardToleranceMillis(Long.MAX_VALUE / 2));
+
+    @State(Scope.Thread)
+    public static class Batch {
+
+        final long[] ids = new long[64];
+    }
+
+    @Benchmark
+    public long snowflake() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(64)
+    public long[] snowflakeBatch(Batch batch) {
+        snowflake.nextIds(batch.ids);
+        return batch.ids;
+    }
+
+    @Benchmark
+    public String ulid() {
+        return UniqueIds.ulid();
+    }
+
+    @Benchmark
+    public UUID uuid7() {
+        return UniqueIds.uuid7();
+    }
+
+    @Benchmark
+    public UUID randomUUID() {
+        return UUID.randomUUID();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniqueIdsBenchmark {
+
+    @Benchmark
+    public String uuid() {
+        return UniqueIds.uuid();
+    }
+
+    @Benchmark
+    public String uuidAs32() {
+        return UniqueIds.uuidAs32();
+    }
+
+    @Benchmark
+    public String uuidAs26() {
+        return UniqueIds.uuidAs26();
+    }
+
+    @Benchmark
+    public String uuidAs22() {
+        return UniqueIds.uuidAs22();
+    }
+
+    @Benchmark
+    public String uuidAs32ThreadLocalRandom() {
+        return UniqueIds.uuidAs32(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public String uuidAs22ThreadLocalRandom() {
+        return UniqueIds.uuidAs22(ThreadLocalRandom.current());
+    }
+
+    private final String as32 = UniqueIds.uuidAs32();
+    private final String as26 = UniqueIds.uuidAs26();
+    private final String as22 = UniqueIds.uuidAs22();
+
+    @Benchmark
+    public UUID parseUuidAs32() {
+        return UniqueIds.parseUuidAs32(as32);
+    }
+
+    @Benchmark
+    public UUID parseUuidAs26() {
+        return UniqueIds.parseUuidAs26(as26);
+    }
+
+    @Benchmark
+    public UUID parseUuidAs22() {
+        return UniqueIds.parseUuidAs22(as22);
+    }
+
+    /**
+     * {@link java.util.UUID#randomUUID()} shares one SecureRandom, so the contended case matters as much as the single threaded one.
+     */
+    @Benchmark
+    @Threads(8)
+    public String uuidContended() {
+        return UniqueIds.uuid();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String uuidAs22ThreadLocalRandomContended() {
+        return UniqueIds.uuidAs22(ThreadLocalRandom.current());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.codec.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Round trip of a typical API payload through {@link Jacksons#DEFAULT_OBJECT_MAPPER} (pretty printed)
+ * and a compact mapper from {@link Jacksons#jacksonObjectMapper(boolean, boolean)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JacksonsBenchmark {
+
+    @Param({"1", "50"})
+    private int items;
+
+    private final ObjectMapper compactMapper = Jacksons.jacksonObjectMapper(false, false);
+
+    private Order order;
+
+    private String json;
+
+    @Setup
+    public void setup() throws IOException {
+        order = new Order();
+        order.id = 1234567890123L;
+        order.userName = "frapples";
+        order.amount = new BigDecimal("1024.50");
+        order.createdAt = LocalDateTime.of(2019, 12, 20, 10, 30, 0);
+        order.tags = new LinkedHashMap<>();
+        order.tags.put("channel", "web");
+        order.tags.put("region", "cn-east");
+        order.items = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.sku = "SKU-" + i;
+            item.quantity = i % 5 + 1;
+            item.price = new BigDecimal("19.99");
+            order.items.add(item);
+        }
+        json = compactMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String serializeDefault() throws IOException {
+        return Jacksons.DEFAULT_OBJECT_MAPPER.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String serializeCompact() throws IOException {
+        return compactMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public Order deserialize() throws IOException {
+        return Jacksons.DEFAULT_OBJECT_MAPPER.readValue(json, Order.class);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Order {
+
+        private long id;
+        private String userName;
+        private BigDecimal amount;
+        private LocalDateTime createdAt;
+        private Map<String, String> tags;
+        private List<Item> items;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Item {
+
+        private String sku;
+        private int quantity;
+        private BigDecimal price;
+    }
+}
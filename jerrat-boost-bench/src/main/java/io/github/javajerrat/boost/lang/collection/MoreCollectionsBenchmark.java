@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Rows look like a result set: unique ids, and about ten rows per user.
+ * The parallel versions only pay off with several cores and inputs above {@link ParallelCollections.Config#threshold}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoreCollectionsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Row> rows;
+
+    private List<List<Long>> sortedShards;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new Row(i, random.nextInt(Math.max(1, size / 10)), "status-" + random.nextInt(4)));
+        }
+
+        sortedShards = new ArrayList<>();
+        for (int shard = 0; shard < 16; shard++) {
+            List<Long> list = new ArrayList<>(size / 16);
+            long value = 0;
+            for (int i = 0; i < size / 16; i++) {
+                value += random.nextInt(100);
+                list.add(value);
+            }
+            sortedShards.add(list);
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, List<Row>> groupBy() {
+        return MoreCollections.groupBy(rows, Row::getUserId);
+    }
+
+    @Benchmark
+    public Map<String, Integer> countBy() {
+        return MoreCollections.countBy(rows, Row::getStatus);
+    }
+
+    @Benchmark
+    public Map<Long, Row> keyBy() {
+        return MoreCollections.keyBy(rows, Row::getId);
+    }
+
+    @Benchmark
+    public boolean isDistinct() {
+        return MoreCollections.isDistinct(rows, Row::getId);
+    }
+
+    @Benchmark
+    public Map<Integer, List<Row>> parallelGroupBy() {
+        return ParallelCollections.groupBy(rows, Row::getUserId);
+    }
+
+    @Benchmark
+    public Map<String, Integer> parallelCountBy() {
+        return ParallelCollections.countBy(rows, Row::getStatus);
+    }
+
+    @Benchmark
+    public Map<Long, Row> parallelKeyBy() {
+        return ParallelCollections.keyBy(rows, Row::getId);
+    }
+
+    @Benchmark
+    public boolean parallelIsDistinct() {
+        return ParallelCollections.isDistinct(rows, Row::getId);
+    }
+
+    @Benchmark
+    public List<Long> mergeSorted() {
+        return MoreCollections.mergeSorted(sortedShards, Long::compare);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+
+        private final long id;
+        private final int userId;
+        private final String status;
+    }
+}
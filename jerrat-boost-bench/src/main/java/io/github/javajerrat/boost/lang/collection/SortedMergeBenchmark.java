@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import io.github.javajerrat.boost.lang.collection.primitive.LongArrayList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * K-way merges of a million sorted longs split into shards: the Guava heap merge that
+ * {@link MoreCollections#mergeSortedView} used before, the loser tree with a comparator, with a long key, and on unboxed longs,
+ * and the parallel merge, which needs several cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedMergeBenchmark {
+
+    private static final int SIZE = 1_000_000;
+
+    @Param({"16", "256"})
+    private int shards;
+
+    private List<List<Long>> sorted;
+
+    private List<LongArrayList> sortedLongs;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        sorted = new ArrayList<>(shards);
+        sortedLongs = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            List<Long> list = new ArrayList<>(SIZE / shards);
+            LongArrayList longs = new LongArrayList(SIZE / shards);
+            long value = 0;
+            for (int i = 0; i < SIZE / shards; i++) {
+                value += random.nextInt(100);
+                list.add(value);
+                longs.add(value);
+            }
+            sorted.add(list);
+            sortedLongs.add(longs);
+        }
+    }
+
+    @Benchmark
+    public List<Long> guavaHeap() {
+        return Lists.newArrayList(Iterables.mergeSorted(sorted, Long::compare));
+    }
+
+    @Benchmark
+    public List<Long> loserTree() {
+        return MoreCollections.mergeSorted(sorted, Long::compare);
+    }
+
+    @Benchmark
+    public List<Long> loserTreeByLong() {
+        return MoreCollections.mergeSortedByLong(sorted, Long::longValue);
+    }
+
+    @Benchmark
+    public LongArrayList loserTreeLongs() {
+        return MoreCollections.mergeSortedLongs(sortedLongs);
+    }
+
+    @Benchmark
+    public List<Long> parallel() {
+        return ParallelCollections.mergeSorted(sorted, Long::compare);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The cost of spilling: sorting strings in memory, against {@link ExternalSorts} with runs of a tenth of the input,
+ * spilled with the dedicated string serializer and with the default Jackson one. The numbers depend on the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExternalSortBenchmark {
+
+    @Param({"200000"})
+    private int size;
+
+    private List<String> lines;
+
+    private ExternalSorts.Config config;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        lines = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            lines.add("line-" + random.nextInt());
+        }
+        config = ExternalSorts.Config.of().runSize(size / 10);
+    }
+
+    @Benchmark
+    public long inMemory() {
+        List<String> sorted = new ArrayList<>(lines);
+        sorted.sort(String::compareTo);
+        return sorted.size();
+    }
+
+    @Benchmark
+    public long externalStrings() {
+        try (SortedRuns<String> sorted = ExternalSorts.sort(lines, String::compareTo, Serializers.strings(), config)) {
+            return sorted.elements().count();
+        }
+    }
+
+    @Benchmark
+    public long externalJackson() {
+        try (SortedRuns<String> sorted = ExternalSorts.sort(lines, String::compareTo, Serializers.jackson(String.class), config)) {
+            return sorted.elements().count();
+        }
+    }
+}
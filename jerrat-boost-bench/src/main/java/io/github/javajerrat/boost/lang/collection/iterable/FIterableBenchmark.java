@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.iterable;
+
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Streams;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A filter, map and limit pipeline and a filter and sum pipeline, through the fused {@link FIterable} stages,
+ * the Guava views that {@link FIterable} stacked before, and {@link java.util.stream}.
+ * The parallel cases compare {@link FIterable#parallelStream()}, which splits the {@code ArrayList} source,
+ * with a parallel stream over an unsized spliterator, what {@link FIterable#stream()} was before. They need several cores.
+ * {@link #cachedReplay()} counts a {@link FIterable#cached()} pipeline that is already buffered, {@link #replay()} runs it again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FIterableBenchmark {
+
+    @Param({"100000"})
+    private int size;
+
+    private List<Integer> list;
+
+    private FIterable<String> cached;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt(1000));
+        }
+        cached = FIterable.from(list).filter(i -> i % 3 == 0).transform(i -> Integer.toString(i)).cached();
+        cached.count();
+    }
+
+    @Benchmark
+    public List<String> fused() {
+        return FIterable.from(list).filter(i -> i % 3 == 0).transform(i -> Integer.toString(i)).limit(size / 10).toList();
+    }
+
+    @Benchmark
+    public List<String> guavaViews() {
+        return FluentIterable.from(list).filter(i -> i % 3 == 0).transform(i -> Integer.toString(i)).limit(size / 10).toList();
+    }
+
+    @Benchmark
+    public List<String> stream() {
+        return list.stream().filter(i -> i % 3 == 0).map(i -> Integer.toString(i)).limit(size / 10).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long fusedSum() {
+        return FIterable.from(list).mapToInt(Integer::intValue).filter(i -> i % 3 == 0).sum();
+    }
+
+    /**
+     * What {@link FIterable#reduce} did before: a stream over the Guava views
+     */
+    @Benchmark
+    public int guavaViewsSum() {
+        return Streams.stream(Iterables.filter(list, i -> i % 3 == 0)).reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToInt(Integer::intValue).filter(i -> i % 3 == 0).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return FIterable.from(list).transform(i -> i * 31 % 1000).parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long unsizedParallelSum() {
+        Iterable<Integer> unsized = Iterables.transform(list, i -> i * 31 % 1000);
+        return StreamSupport.stream(unsized.spliterator(), true).mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long cachedReplay() {
+        return cached.count();
+    }
+
+    @Benchmark
+    public long replay() {
+        return FIterable.from(list).filter(i -> i % 3 == 0).transform(i -> Integer.toString(i)).count();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.lazy;
+
+import io.github.javajerrat.boost.lang.collection.Lazys;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Summing a range by a plain loop, the enhanced for loop over {@link Lazys#range(long, long)}, its primitive iterator and its stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeBenchmark {
+
+    @Param({"100000"})
+    private long size;
+
+    @Benchmark
+    public long plainLoop() {
+        long sum = 0;
+        for (long i = 0; i < size; i++) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long forEachLoop() {
+        long sum = 0;
+        for (long i : Lazys.range(0, size)) {
+            sum += i;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long primitiveIterator() {
+        long sum = 0;
+        for (PrimitiveIterator.OfLong it = Lazys.range(0, size).iterator(); it.hasNext(); ) {
+            sum += it.nextLong();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long longStream() {
+        return Lazys.range(0, size).longStream().sum();
+    }
+
+    @Benchmark
+    public long parallelLongStream() {
+        return Lazys.range(0, size).longStream().parallel().sum();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The build and probe sides of a hash join on ids, against the boxed JDK collections.
+ * Run with {@code -prof gc}: the allocation per operation is about the heap the index keeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private int[] ids;
+
+    private int[] probes;
+
+    private Map<Integer, Integer> boxedIndex;
+
+    private IntIntHashMap index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        ids = new int[size];
+        probes = new int[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = random.nextInt(Integer.MAX_VALUE);
+            // Half of the probes hit
+            probes[i] = i % 2 == 0 ? ids[random.nextInt(size)] : random.nextInt(Integer.MAX_VALUE);
+        }
+        boxedIndex = buildHashMap();
+        index = buildIntIntHashMap();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> buildHashMap() {
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            index.put(ids[i], i);
+        }
+        return index;
+    }
+
+    @Benchmark
+    public IntIntHashMap buildIntIntHashMap() {
+        IntIntHashMap index = new IntIntHashMap();
+        for (int i = 0; i < ids.length; i++) {
+            index.put(ids[i], i);
+        }
+        return index;
+    }
+
+    @Benchmark
+    public long probeHashMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            Integer row = boxedIndex.get(probe);
+            if (row != null) {
+                sum += row;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long probeIntIntHashMap() {
+        long sum = 0;
+        for (int probe : probes) {
+            sum += index.getOrDefault(probe, 0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Set<Integer> distinctHashSet() {
+        Set<Integer> set = new HashSet<>();
+        for (int probe : probes) {
+            set.add(probe);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public IntHashSet distinctIntHashSet() {
+        IntHashSet set = new IntHashSet();
+        for (int probe : probes) {
+            set.add(probe);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The write path of {@link CacheLongAdder} against a plain {@link LongAdder} and the previous implementation,
+ * which read the clock and wrote a volatile field on every add.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CacheLongAdderBenchmark {
+
+    private final LongAdder longAdder = new LongAdder();
+
+    private final CacheLongAdder cacheLongAdder = new CacheLongAdder();
+
+    private final LegacyCacheLongAdder legacy = new LegacyCacheLongAdder();
+
+    @Benchmark
+    public void addLongAdder() {
+        longAdder.increment();
+    }
+
+    @Benchmark
+    public void addCacheLongAdder() {
+        cacheLongAdder.increment();
+    }
+
+    @Benchmark
+    public void addLegacy() {
+        legacy.increment();
+    }
+
+    @Benchmark
+    public long sumLongAdder() {
+        return longAdder.sum();
+    }
+
+    @Benchmark
+    public long sumCacheLongAdder() {
+        return cacheLongAdder.sum();
+    }
+
+    static class LegacyCacheLongAdder extends LongAdder {
+
+        private volatile long lastModify = System.currentTimeMillis();
+        private volatile long lastRead = -1L;
+        private Long cacheSum = null;
+
+        @Override
+        public void add(long x) {
+            super.add(x);
+            lastModify = System.currentTimeMillis();
+        }
+
+        @Override
+        public long sum() {
+            long lastRead = this.lastRead;
+            long lastModify = this.lastModify;
+            if (cacheSum == null || lastRead < lastModify) {
+                cacheSum = super.sum();
+                this.lastRead = System.currentTimeMillis();
+            }
+            return cacheSum;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The overhead of {@link InstrumentedLock} over a plain lock, with the monitor disabled and enabled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentedLockBenchmark {
+
+    private final AutoCloseableLock plain = Locks.autoCloseableLock(new ReentrantLock());
+
+    private final LockMonitor disabledMonitor = LockMonitor.of(LockMonitor.Config.of().enabled(false));
+
+    private final AutoCloseableLock disabled = Locks.autoCloseableLock(disabledMonitor.instrument("disabled", new ReentrantLock()));
+
+    private final LockMonitor enabledMonitor = LockMonitor.of(LockMonitor.Config.of());
+
+    private final AutoCloseableLock enabled = Locks.autoCloseableLock(enabledMonitor.instrument("enabled", new ReentrantLock()));
+
+    private int counter;
+
+    private int increment(AutoCloseableLock lock) {
+        try (UncheckedAutoCloseable ignore = lock.withLock()) {
+            return ++counter;
+        }
+    }
+
+    @Benchmark
+    public int plain() {
+        return increment(plain);
+    }
+
+    @Benchmark
+    public int disabled() {
+        return increment(disabled);
+    }
+
+    @Benchmark
+    public int enabled() {
+        return increment(enabled);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int plainContended() {
+        return increment(plain);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int disabledContended() {
+        return increment(disabled);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int enabledContended() {
+        return increment(enabled);
+    }
+}
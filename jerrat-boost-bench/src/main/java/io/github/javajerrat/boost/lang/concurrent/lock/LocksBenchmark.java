@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Failing to acquire a lock that another thread holds, by an exception with a stack trace, a stackless exception and the return value;
+ * and acquiring a free lock with a capturing lambda and with a constant one. Run with {@code -prof gc} to see the allocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocksBenchmark {
+
+    private final ReentrantLock held = new ReentrantLock();
+
+    private final ReentrantLock free = new ReentrantLock();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private int counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            held.lock();
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                held.unlock();
+            }
+        });
+        holder.setDaemon(true);
+        holder.start();
+        locked.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        release.countDown();
+    }
+
+    /**
+     * What {@link Locks#withSynchronized(java.util.concurrent.locks.Lock, int, TimeUnit, Runnable)} did before
+     */
+    @Benchmark
+    public int timeoutWithStackTrace() throws InterruptedException {
+        try {
+            if (!held.tryLock(0, TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException();
+            }
+            held.unlock();
+            return 0;
+        } catch (TimeoutException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int timeoutStackless() throws InterruptedException {
+        try {
+            Locks.withSynchronized(held, 0, TimeUnit.NANOSECONDS, () -> { });
+            return 0;
+        } catch (TimeoutException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public int timeoutReturned() throws InterruptedException {
+        return Locks.tryWithSynchronizedToInt(held, 0, TimeUnit.NANOSECONDS, this, b -> ++b.counter, -1);
+    }
+
+    @Benchmark
+    public int capturingLambda() throws InterruptedException, TimeoutException {
+        int delta = counter & 1;
+        return Locks.withSynchronized(free, 1, TimeUnit.SECONDS, () -> counter += delta + 1);
+    }
+
+    @Benchmark
+    public int constantLambda() throws InterruptedException {
+        return Locks.tryWithSynchronizedToInt(free, 1, TimeUnit.SECONDS, this, b -> b.counter += (b.counter & 1) + 1, -1);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Reading a two field value under an exclusive lock, a read lock and an optimistic read, with 1, 8 and 32 reader threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptimisticReadBenchmark {
+
+    private final AutoCloseableLock exclusive = Locks.autoCloseableLock(new ReentrantLock());
+
+    private final AutoCloseableReadWriteLock readWrite = Locks.autoCloseableReadWriteLock(new ReentrantReadWriteLock());
+
+    private final StampedLock stamped = new StampedLock();
+
+    private long x = 1;
+    private long y = 2;
+
+    private long exclusiveRead() {
+        try (UncheckedAutoCloseable ignore = exclusive.withLock()) {
+            return x + y;
+        }
+    }
+
+    private long readLockRead() {
+        try (UncheckedAutoCloseable ignore = readWrite.withRead()) {
+            return x + y;
+        }
+    }
+
+    private long optimisticRead() {
+        return Locks.optimisticRead(stamped, () -> x + y);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long exclusive1() {
+        return exclusiveRead();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long exclusive8() {
+        return exclusiveRead();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long exclusive32() {
+        return exclusiveRead();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long readLock1() {
+        return readLockRead();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long readLock8() {
+        return readLockRead();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long readLock32() {
+        return readLockRead();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long optimistic1() {
+        return optimisticRead();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long optimistic8() {
+        return optimisticRead();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long optimistic32() {
+        return optimisticRead();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import com.google.common.util.concurrent.Striped;
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Locking one of 1024 keys, against Guava's {@link Striped}. Run with {@code -prof gc} to check that locking allocates nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StripedLocksBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private final Integer[] keys = new Integer[KEYS];
+
+    {
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = i * 7919;
+        }
+    }
+
+    private final StripedLocks<AutoCloseableLock> striped = StripedLocks.lock(64);
+
+    private final StripedLocks<AutoCloseableReadWriteLock> stripedReadWrite = StripedLocks.readWriteLock(64);
+
+    private final Striped<Lock> guava = Striped.lock(64);
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+    }
+
+    @Benchmark
+    public int withLock(Cursor cursor) {
+        try (UncheckedAutoCloseable ignore = striped.get(keys[cursor.next++ & (KEYS - 1)]).withLock()) {
+            return cursor.next;
+        }
+    }
+
+    @Benchmark
+    public int withRead(Cursor cursor) {
+        try (UncheckedAutoCloseable ignore = stripedReadWrite.get(keys[cursor.next++ & (KEYS - 1)]).withRead()) {
+            return cursor.next;
+        }
+    }
+
+    @Benchmark
+    public int guavaStriped(Cursor cursor) {
+        Lock lock = guava.get(keys[cursor.next++ & (KEYS - 1)]);
+        lock.lock();
+        try {
+            return cursor.next;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
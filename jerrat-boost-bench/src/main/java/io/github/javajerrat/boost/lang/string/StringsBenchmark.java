@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.string;
+
+import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringsBenchmark {
+
+    private final String indexedFormat = "User {0} called {1} in {2} ms, result: {3}";
+
+    private final String namedFormat = "User {user} called {api} in {cost} ms, result: {result}";
+
+    private final Map<String, Object> values = MoreCollections.mapOf(
+        "user", "frapples", "api", "/api/v1/orders", "cost", 12, "result", "OK");
+
+    private final String csv = "id,name,email,phone,address,city,province,zip,created_at,updated_at,status,remark";
+
+    @Benchmark
+    public String formatIndexed() {
+        return Strings.format(indexedFormat, "frapples", "/api/v1/orders", 12, "OK");
+    }
+
+    @Benchmark
+    public String formatNamed() {
+        return Strings.format(namedFormat, values);
+    }
+
+    @Benchmark
+    public List<String> split() {
+        return Strings.split(csv, ",").toList();
+    }
+}
@@ -0,0 +1,414 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheStats;
+import com.google.common.math.IntMath;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A bounded, concurrent memoization of a function, see {@link ServiceInvokes#memoize(Function, long, long, java.util.concurrent.TimeUnit)}.
+ *
+ * The eviction policy is W-TinyLFU: new entries enter a small LRU window (1% of the size), and the entries leaving the window
+ * compete with the least recently used entry of the main space, a segmented LRU, by their estimated access frequency.
+ * Frequencies are counted by a 4-bit count-min sketch that is halved periodically, so that one-hit wonders cannot flush
+ * popular entries out of the cache.
+ *
+ * Reads do not take a lock: they are recorded in striped, lossy buffers that are replayed against the policy under a lock
+ * when full, or on the next write. Concurrent calls for a key that is being loaded wait for that load instead of loading again.
+ * Values are expired a fixed time after they were loaded.
+ */
+public class MemoizedFunction<K, V> implements Function<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int REMOVED = -1;
+
+    private static final class Node<K, V> {
+
+        final K key;
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        volatile long writeNanos;
+
+        /**
+         * Guarded by the policy lock
+         */
+        Node<K, V> prev;
+        Node<K, V> next;
+        int queue = REMOVED;
+
+        Node(K key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * A doubly linked list in access order, the head is the least recently used. Guarded by the policy lock.
+     */
+    private static final class AccessOrder<K, V> {
+
+        Node<K, V> head;
+        Node<K, V> tail;
+        int size;
+
+        void addLast(Node<K, V> node, int queue) {
+            node.queue = queue;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.queue = REMOVED;
+            size--;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            int queue = node.queue;
+            remove(node);
+            addLast(node, queue);
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters, halved after 10 * maximumSize additions. Guarded by the policy lock.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        private final byte[] counts;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long maximumSize) {
+            int length = IntMath.ceilingPowerOfTwo((int) Math.min(1 << 24, Math.max(16, maximumSize * 4)));
+            this.counts = new byte[length];
+            this.mask = length - 1;
+            this.sampleSize = (int) Math.min(Integer.MAX_VALUE, Math.max(160, maximumSize * 10));
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = 15;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, counts[index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = index(hash, i);
+                if (counts[index] < 15) {
+                    counts[index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] >>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & mask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+
+    private static final int READ_BUFFER_SIZE = 16;
+
+    private static final int READ_BUFFER_STRIPES = Math.min(16, IntMath.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Number of longs between two read buffer counters, 128 bytes keeps them on different cache lines
+     */
+    private static final int PADDING = 16;
+
+    private final Function<K, V> function;
+    private final long maximumSize;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final long expireNanos;
+    private final Ticker ticker;
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+
+    private final ReentrantLock policyLock = new ReentrantLock();
+    private final AccessOrder<K, V> window = new AccessOrder<>();
+    private final AccessOrder<K, V> probation = new AccessOrder<>();
+    private final AccessOrder<K, V> protectedSpace = new AccessOrder<>();
+    private final FrequencySketch sketch;
+
+    private final AtomicReferenceArray<Node<K, V>> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_STRIPES * READ_BUFFER_SIZE);
+    private final AtomicLongArray readCounts = new AtomicLongArray((READ_BUFFER_STRIPES + 1) * PADDING);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MemoizedFunction(Function<K, V> function, long maximumSize, long expireNanos, Ticker ticker) {
+        Preconditions.checkArgument(maximumSize > 0, "maximumSize %s <= 0", maximumSize);
+        Preconditions.checkArgument(expireNanos > 0, "expire time %s <= 0", expireNanos);
+        this.function = function;
+        this.maximumSize = maximumSize;
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.expireNanos = expireNanos;
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * @throws RuntimeException What the function threw, also to the callers that waited for the failed load
+     */
+    @Override
+    public V apply(K key) {
+        Preconditions.checkNotNull(key);
+        for (; ; ) {
+            Node<K, V> node = map.get(key);
+            if (node != null && !node.future.isDone()) {
+                hits.increment();
+                return join(node);
+            }
+            if (node != null && !node.future.isCompletedExceptionally() && ticker.read() - node.writeNanos < expireNanos) {
+                hits.increment();
+                recordRead(node);
+                return node.future.getNow(null);
+            }
+
+            Node<K, V> fresh = new Node<>(key);
+            boolean claimed = node == null ? map.putIfAbsent(key, fresh) == null : map.replace(key, node, fresh);
+            if (claimed) {
+                return load(fresh, node);
+            }
+        }
+    }
+
+    private V load(Node<K, V> node, Node<K, V> replaced) {
+        long start = ticker.read();
+        V value;
+        try {
+            value = function.apply(node.key);
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            map.remove(node.key, node);
+            node.future.completeExceptionally(e);
+            if (replaced != null) {
+                afterWrite(null, replaced);
+            }
+            throw e;
+        }
+        long end = ticker.read();
+        loadSuccesses.increment();
+        loadNanos.add(end - start);
+        node.writeNanos = end;
+        node.future.complete(value);
+        afterWrite(node, replaced);
+        return value;
+    }
+
+    @SneakyThrows
+    private V join(Node<K, V> node) {
+        try {
+            return node.future.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void recordRead(Node<K, V> node) {
+        int stripe = (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40) & (READ_BUFFER_STRIPES - 1);
+        long count = readCounts.getAndIncrement((stripe + 1) * PADDING);
+        int offset = (int) (count & (READ_BUFFER_SIZE - 1));
+        readBuffer.lazySet(stripe * READ_BUFFER_SIZE + offset, node);
+        if (offset == READ_BUFFER_SIZE - 1 && policyLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                policyLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> added, Node<K, V> removed) {
+        policyLock.lock();
+        try {
+            drainReadBuffer();
+            if (removed != null) {
+                unlink(removed);
+            }
+            // The node may have been invalidated, or replaced after expiring, while it was loading
+            if (added != null && map.get(added.key) == added) {
+                sketch.increment(added.key);
+                window.addLast(added, WINDOW);
+                evict();
+            }
+        } finally {
+            policyLock.unlock();
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < readBuffer.length(); i++) {
+            Node<K, V> node = readBuffer.getAndSet(i, null);
+            if (node != null && node.queue != REMOVED) {
+                sketch.increment(node.key);
+                onAccess(node);
+            }
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToLast(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                protectedSpace.addLast(node, PROTECTED);
+                while (protectedSpace.size > protectedMaximum && protectedSpace.head != null) {
+                    Node<K, V> demoted = protectedSpace.head;
+                    protectedSpace.remove(demoted);
+                    probation.addLast(demoted, PROBATION);
+                }
+                break;
+            case PROTECTED:
+                protectedSpace.moveToLast(node);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (window.size > windowMaximum) {
+            candidate = window.head;
+            window.remove(candidate);
+            probation.addLast(candidate, PROBATION);
+        }
+        while (window.size + probation.size + protectedSpace.size > maximumSize) {
+            Node<K, V> victim = probation.head != null ? probation.head : protectedSpace.head != null ? protectedSpace.head : window.head;
+            if (candidate != null && candidate.queue == PROBATION && candidate != victim
+                && sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+                // The newcomer is not used more often than the entry it would replace, it is not admitted
+                victim = candidate;
+            }
+            if (victim == candidate) {
+                candidate = null;
+            }
+            unlink(victim);
+            map.remove(victim.key, victim);
+            evictions.increment();
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                break;
+            case PROTECTED:
+                protectedSpace.remove(node);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Discard the memoized value of the key, a load in progress still completes for its callers
+     */
+    public void invalidate(K key) {
+        Node<K, V> node = map.remove(key);
+        if (node != null) {
+            afterWrite(null, node);
+        }
+    }
+
+    public void invalidateAll() {
+        for (K key : map.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * @return The number of memoized values, including the ones being loaded
+     */
+    public long size() {
+        return map.size();
+    }
+
+    /**
+     * @return The statistics since creation. A call that waited for the load of another call counts as a hit.
+     */
+    public CacheStats stats() {
+        long successes = loadSuccesses.sum();
+        long failures = loadFailures.sum();
+        return new CacheStats(hits.sum(), successes + failures, successes, failures, loadNanos.sum(), evictions.sum());
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Collects single keyed calls, e.g. {@code getUser(id)}, into batches for one bulk call, e.g. {@code getUsers(ids)}.
+ *
+ * A batch is dispatched when it holds {@link Config#maxBatchSize} distinct keys, or {@link Config#maxDelayMicros} after its first call.
+ * Calls for the same key in one batch share the result. At most {@link Config#maxInFlightBatches} bulk calls run at once;
+ * further batches wait their turn. Once {@link Config#maxPendingCalls} calls are waiting to be dispatched, new calls are rejected
+ * with a {@link RejectedExecutionException}, so a slow backend pushes back on the callers instead of piling up memory.
+ * If the scheduler rejects the timer of a batch, e.g. after it is shut down, the batch is dispatched at once.
+ *
+ * Keys missing from the result of the bulk call get null; if the bulk call fails, all the calls of the batch fail with its exception.
+ */
+public class MicroBatcher<K, V> {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        int maxBatchSize = 100;
+
+        long maxDelayMicros = 1000;
+
+        int maxInFlightBatches = 4;
+
+        int maxPendingCalls = 10_000;
+    }
+
+    private static final class Batch<K, V> {
+
+        final Map<K, List<CompletableFuture<V>>> waiters = new LinkedHashMap<>();
+        int calls;
+    }
+
+    private final Function<List<K>, ? extends CompletionStage<Map<K, V>>> bulk;
+    private final ScheduledExecutorService scheduler;
+    private final int maxBatchSize;
+    private final long maxDelayMicros;
+    private final int maxInFlightBatches;
+    private final int maxPendingCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * Guarded by lock
+     */
+    private Batch<K, V> current;
+    private final ArrayDeque<Batch<K, V>> ready = new ArrayDeque<>();
+    private int inFlight;
+    private int pendingCalls;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedKeys = new LongAdder();
+
+    /**
+     * @param bulk The bulk call, given the distinct keys of a batch
+     * @param scheduler Runs the timer of the batches, and nothing else
+     */
+    public static <K, V> MicroBatcher<K, V> of(Function<List<K>, ? extends CompletionStage<Map<K, V>>> bulk,
+        ScheduledExecutorService scheduler, Config config) {
+        return new MicroBatcher<>(bulk, scheduler, config);
+    }
+
+    private MicroBatcher(Function<List<K>, ? extends CompletionStage<Map<K, V>>> bulk, ScheduledExecutorService scheduler, Config config) {
+        Preconditions.checkArgument(config.maxBatchSize > 0, "maxBatchSize %s <= 0", config.maxBatchSize);
+        Preconditions.checkArgument(config.maxDelayMicros >= 0, "maxDelayMicros %s < 0", config.maxDelayMicros);
+        Preconditions.checkArgument(config.maxInFlightBatches > 0, "maxInFlightBatches %s <= 0", config.maxInFlightBatches);
+        Preconditions.checkArgument(config.maxPendingCalls > 0, "maxPendingCalls %s <= 0", config.maxPendingCalls);
+        this.bulk = bulk;
+        this.scheduler = scheduler;
+        this.maxBatchSize = config.maxBatchSize;
+        this.maxDelayMicros = config.maxDelayMicros;
+        this.maxInFlightBatches = config.maxInFlightBatches;
+        this.maxPendingCalls = config.maxPendingCalls;
+    }
+
+    /**
+     * @return The value of the key, completed from the result of the bulk call of its batch
+     */
+    public CompletableFuture<V> submit(K key) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        Batch<K, V> started = null;
+        lock.lock();
+        try {
+            if (pendingCalls >= maxPendingCalls) {
+                future.completeExceptionally(new RejectedExecutionException("Too many pending calls: " + pendingCalls));
+                return future;
+            }
+            if (current == null) {
+                current = new Batch<>();
+                started = current;
+            }
+            current.waiters.computeIfAbsent(key, k -> new ArrayList<>(1)).add(future);
+            current.calls++;
+            pendingCalls++;
+            if (current.waiters.size() >= maxBatchSize) {
+                ready.add(current);
+                current = null;
+                started = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (started != null) {
+            Batch<K, V> batch = started;
+            try {
+                scheduler.schedule(() -> flush(batch), maxDelayMicros, TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                // No timer, e.g. the scheduler is shut down: do not keep the calls waiting for the batch to fill up
+                flush(batch);
+            }
+        }
+        dispatchReady();
+        return future;
+    }
+
+    /**
+     * Similar to {@link MicroBatcher#submit(Object)}, but waits for the value
+     *
+     * @throws RuntimeException What the bulk call threw, or {@link RejectedExecutionException}
+     */
+    @SneakyThrows
+    public V get(K key) {
+        try {
+            return submit(key).join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Dispatch the calls collected so far without waiting for the batch to fill up
+     */
+    public void flush() {
+        lock.lock();
+        try {
+            if (current != null) {
+                ready.add(current);
+                current = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        dispatchReady();
+    }
+
+    private void flush(Batch<K, V> batch) {
+        lock.lock();
+        try {
+            if (current != batch) {
+                return;
+            }
+            ready.add(current);
+            current = null;
+        } finally {
+            lock.unlock();
+        }
+        dispatchReady();
+    }
+
+    private void dispatchReady() {
+        for (; ; ) {
+            Batch<K, V> batch;
+            lock.lock();
+            try {
+                if (inFlight >= maxInFlightBatches || ready.isEmpty()) {
+                    return;
+                }
+                batch = ready.poll();
+                inFlight++;
+                pendingCalls -= batch.calls;
+            } finally {
+                lock.unlock();
+            }
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Batch<K, V> batch) {
+        batches.increment();
+        batchedKeys.add(batch.waiters.size());
+        CompletionStage<Map<K, V>> result;
+        try {
+            result = bulk.apply(new ArrayList<>(batch.waiters.keySet()));
+        } catch (RuntimeException | Error e) {
+            CompletableFuture<Map<K, V>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            result = failed;
+        }
+        result.whenComplete((values, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            for (Entry<K, List<CompletableFuture<V>>> entry : batch.waiters.entrySet()) {
+                V value = cause == null && values != null ? values.get(entry.getKey()) : null;
+                for (CompletableFuture<V> future : entry.getValue()) {
+                    if (cause == null) {
+                        future.complete(value);
+                    } else {
+                        future.completeExceptionally(cause);
+                    }
+                }
+            }
+            lock.lock();
+            try {
+                inFlight--;
+            } finally {
+                lock.unlock();
+            }
+            dispatchReady();
+        });
+    }
+
+    /**
+     * @return The number of bulk calls made
+     */
+    public long batches() {
+        return batches.sum();
+    }
+
+    /**
+     * @return The average number of distinct keys per bulk call
+     */
+    public double averageBatchSize() {
+        long batches = this.batches.sum();
+        return batches == 0 ? 0 : (double) batchedKeys.sum() / batches;
+    }
+
+    /**
+     * @return The number of calls not dispatched yet
+     */
+    public int pendingCalls() {
+        lock.lock();
+        try {
+            return pendingCalls;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A cached supplier that reloads the value in the background, see {@link ServiceInvokes#cachedAsync(Supplier, long, TimeUnit, Executor)}.
+ *
+ * <ul>
+ * <li>Before the refresh point, the cached value is returned (a hit).</li>
+ * <li>From the refresh point on, the cached value is still returned, and one caller submits a reload to the executor.
+ * The refresh point is moved randomly by up to {@link Config#jitterRatio} of the life, so that values loaded together do not
+ * all reload at once.</li>
+ * <li>After expiry, the value is returned while the reload runs (a stale hit), for at most {@link Config#staleWhileRevalidateMillis}.</li>
+ * <li>Without a value, or once the value is too stale, callers load it synchronously, one at a time (a miss).</li>
+ * </ul>
+ * A failed background reload keeps the old value, and the next call tries again.
+ */
+public class RefreshingSupplier<T> implements Supplier<T> {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        long expireAfterMillis = 60_000;
+
+        /**
+         * The background reload starts when this fraction of the life of the value is left
+         */
+        double refreshAheadRatio = 0.2;
+
+        /**
+         * The refresh point is moved randomly by up to this fraction of the life of the value, both ways
+         */
+        double jitterRatio = 0.1;
+
+        /**
+         * How long after expiry the old value is still returned while the reload runs
+         */
+        long staleWhileRevalidateMillis = 60_000;
+
+        Ticker ticker = Ticker.systemTicker();
+    }
+
+    @AllArgsConstructor
+    private static class Entry<T> {
+
+        final T value;
+        final long refreshAt;
+        final long expireAt;
+    }
+
+    private final Supplier<T> supplier;
+    private final Executor executor;
+    private final long lifeNanos;
+    private final double refreshAheadRatio;
+    private final double jitterRatio;
+    private final long staleNanos;
+    private final Ticker ticker;
+
+    private volatile Entry<T> entry;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public static <T> RefreshingSupplier<T> of(Supplier<T> supplier, Executor executor, Config config) {
+        return new RefreshingSupplier<>(supplier, executor, config);
+    }
+
+    private RefreshingSupplier(Supplier<T> supplier, Executor executor, Config config) {
+        Preconditions.checkArgument(config.expireAfterMillis > 0, "expireAfterMillis %s <= 0", config.expireAfterMillis);
+        Preconditions.checkArgument(config.refreshAheadRatio >= 0 && config.refreshAheadRatio <= 1, "refreshAheadRatio must be in [0, 1]");
+        Preconditions.checkArgument(config.jitterRatio >= 0 && config.jitterRatio <= 1, "jitterRatio must be in [0, 1]");
+        Preconditions.checkArgument(config.staleWhileRevalidateMillis >= 0, "staleWhileRevalidateMillis %s < 0",
+            config.staleWhileRevalidateMillis);
+        this.supplier = supplier;
+        this.executor = executor;
+        this.lifeNanos = TimeUnit.MILLISECONDS.toNanos(config.expireAfterMillis);
+        this.refreshAheadRatio = config.refreshAheadRatio;
+        this.jitterRatio = config.jitterRatio;
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(config.staleWhileRevalidateMillis);
+        this.ticker = config.ticker;
+    }
+
+    @Override
+    public T get() {
+        Entry<T> entry = this.entry;
+        long now = ticker.read();
+        if (entry != null && now - entry.refreshAt < 0) {
+            hits.increment();
+            return entry.value;
+        }
+        if (entry != null && now - entry.expireAt < staleNanos) {
+            if (now - entry.expireAt < 0) {
+                hits.increment();
+            } else {
+                staleHits.increment();
+            }
+            refreshAsync();
+            return entry.value;
+        }
+        return load(entry);
+    }
+
+    private synchronized T load(Entry<T> seen) {
+        Entry<T> entry = this.entry;
+        if (entry != seen && entry != null && ticker.read() - entry.expireAt < 0) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        return reload().value;
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    reload();
+                    refreshes.increment();
+                } catch (RuntimeException | Error e) {
+                    refreshFailures.increment();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshFailures.increment();
+            refreshing.set(false);
+        }
+    }
+
+    private Entry<T> reload() {
+        long start = ticker.read();
+        T value = supplier.get();
+        double jitter = jitterRatio == 0 ? 0 : ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        double refreshRatio = Math.min(1, Math.max(0, 1 - refreshAheadRatio + jitter));
+        Entry<T> entry = new Entry<>(value, start + (long) (lifeNanos * refreshRatio), start + lifeNanos);
+        this.entry = entry;
+        return entry;
+    }
+
+    /**
+     * @return The calls that returned a value before its expiry
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The calls that returned an expired value while it was reloaded
+     */
+    public long staleHits() {
+        return staleHits.sum();
+    }
+
+    /**
+     * @return The calls that loaded the value synchronously
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The successful background reloads
+     */
+    public long refreshes() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return The background reloads that failed or were rejected by the executor
+     */
+    public long refreshFailures() {
+        return refreshFailures.sum();
+    }
+}
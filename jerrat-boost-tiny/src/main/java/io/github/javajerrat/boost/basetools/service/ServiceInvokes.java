@@ -16,11 +16,24 @@
 package io.github.javajerrat.boost.basetools.service;
 
 import com.google.common.annotations.Beta;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Suppliers;
+import com.google.common.base.Ticker;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
-import org.apache.commons.lang3.NotImplementedException;
+import lombok.AllArgsConstructor;
 
 /**
  * @author Frapples <isfrapples@outlook.com>
@@ -50,13 +63,259 @@ public class ServiceInvokes {
     }
 
     /**
+     * Similar to {@link ServiceInvokes#cached(Supplier, long, TimeUnit)}, but callers do not wait for reloads.
+     * The value is reloaded on the executor when about 80% of the duration has passed, and the old value is served meanwhile,
+     * also after expiry for up to another duration. Only the first call, or a call after a long idle time, loads synchronously.
      *
-     * Create a throttling function that executes the runnable function at most during the duration time
+     * @see RefreshingSupplier
+     */
+    public static <T> RefreshingSupplier<T> cachedAsync(@NotNull Supplier<T> supplier, long duration, @NotNull TimeUnit unit,
+        @NotNull Executor executor) {
+        long millis = Math.max(1, unit.toMillis(duration));
+        return RefreshingSupplier.of(supplier, executor, RefreshingSupplier.Config.of()
+            .expireAfterMillis(millis)
+            .staleWhileRevalidateMillis(millis));
+    }
+
+    /**
+     * Create a function that memoizes up to maximumSize results of the original function, each one for the duration time.
+     * Unlike a ConcurrentHashMap based memoization, it is bounded, and keeps the keys used most often rather than the most recent ones.
+     * Concurrent calls for the same key share one call of the original function.
+     *
+     * @see MemoizedFunction
+     */
+    public static <K, V> MemoizedFunction<K, V> memoize(@NotNull Function<K, V> function, long maximumSize, long duration,
+        @NotNull TimeUnit unit) {
+        return new MemoizedFunction<>(function, maximumSize, unit.toNanos(duration), Ticker.systemTicker());
+    }
+
+    /**
+     * Similar to {@link ServiceInvokes#memoize(Function, long, long, TimeUnit)}, but the results do not expire
+     */
+    public static <K, V> MemoizedFunction<K, V> memoize(@NotNull Function<K, V> function, long maximumSize) {
+        return new MemoizedFunction<>(function, maximumSize, Long.MAX_VALUE, Ticker.systemTicker());
+    }
+
+    /**
+     * Create a batcher that collects single calls for up to maxBatchSize keys or the maxDelay time, and answers them with one
+     * call of the bulk function. The bulk function runs on the scheduler, so give it a scheduler with enough threads for
+     * the bulk calls, or use {@link MicroBatcher#of(Function, ScheduledExecutorService, MicroBatcher.Config)} with an asynchronous one.
+     *
+     * @see MicroBatcher
+     */
+    public static <K, V> MicroBatcher<K, V> batching(@NotNull Function<List<K>, Map<K, V>> bulk, int maxBatchSize, long maxDelay,
+        @NotNull TimeUnit unit, @NotNull ScheduledExecutorService scheduler) {
+        return MicroBatcher.of(keys -> CompletableFuture.supplyAsync(() -> bulk.apply(keys), scheduler), scheduler,
+            MicroBatcher.Config.of().maxBatchSize(maxBatchSize).maxDelayMicros(unit.toMicros(maxDelay)));
+    }
+
+    /**
+     * Create a throttling function that executes the supplier at most once during the duration time.
+     * Other calls return the value of the last execution, without waiting for an execution in progress.
+     * Only the very first calls, before any value exists, wait for the first execution.
      *
-     * TODO:
+     * Unlike {@link ServiceInvokes#cached(Supplier, long, TimeUnit)}, no caller blocks on another one once there is a value.
+     * If the supplier throws, the exception goes to the calling thread, and the next call tries again.
+     */
+    @Beta
+    public static <T> Supplier<T> throttle(@NotNull Supplier<T> supplier, long duration, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(duration >= 0, "duration %s < 0", duration);
+        return new ThrottledSupplier<>(supplier, unit.toNanos(duration), Ticker.systemTicker());
+    }
+
+    /**
+     * Similar to {@link ServiceInvokes#rateLimited(Supplier, double, Supplier)}, but throws {@link RejectedExecutionException}
+     * when the rate is exceeded.
+     */
+    @Beta
+    public static <T> Supplier<T> rateLimited(@NotNull Supplier<T> supplier, double permitsPerSecond) {
+        return rateLimited(supplier, permitsPerSecond, () -> {
+            throw new RejectedExecutionException("Rate limit of " + permitsPerSecond + " per second exceeded");
+        });
+    }
+
+    /**
+     * Create a function that executes the supplier at most permitsPerSecond times a second, and the fallback otherwise.
+     *
+     * It is a token bucket holding one second of permits, so a burst of permitsPerSecond calls (at least one) passes after an idle second.
+     * Unlike Guava's RateLimiter, it never waits and never locks: a permit is a single CAS on the time the bucket will be full again.
+     */
+    @Beta
+    public static <T> Supplier<T> rateLimited(@NotNull Supplier<T> supplier, double permitsPerSecond, @NotNull Supplier<T> fallback) {
+        Preconditions.checkArgument(permitsPerSecond > 0, "permitsPerSecond %s <= 0", permitsPerSecond);
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        long burstNanos = (long) (Math.max(1, Math.floor(permitsPerSecond)) * intervalNanos);
+        return new RateLimitedSupplier<>(supplier, fallback, intervalNanos, burstNanos, Ticker.systemTicker());
+    }
+
+    /**
+     * Create a trailing-edge debounce function: the runnable is executed on the scheduler once the returned function
+     * has not been called for the duration time. A burst of calls results in a single execution after the last one.
+     * If the scheduler rejects the timer, e.g. after it is shut down, the runnable is executed at once instead of being dropped.
      */
     @Beta
-    public static <T> Supplier<T> throttle(Supplier<T> supplier, long duration, @NotNull TimeUnit unit) {
-        throw new NotImplementedException("");
+    public static Runnable debounce(@NotNull Runnable runnable, long duration, @NotNull TimeUnit unit,
+        @NotNull ScheduledExecutorService scheduler) {
+        Preconditions.checkArgument(duration >= 0, "duration %s < 0", duration);
+        return new Debouncer(runnable, unit.toNanos(duration), scheduler, Ticker.systemTicker());
+    }
+
+    @AllArgsConstructor
+    private static class Timed<T> {
+
+        final T value;
+        final long nanos;
+    }
+
+    static class ThrottledSupplier<T> implements Supplier<T> {
+
+        private static final long FIRST_VALUE_POLL_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+        private final Supplier<T> supplier;
+        private final long durationNanos;
+        private final Ticker ticker;
+
+        private final AtomicReference<Timed<T>> last = new AtomicReference<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        ThrottledSupplier(Supplier<T> supplier, long durationNanos, Ticker ticker) {
+            this.supplier = supplier;
+            this.durationNanos = durationNanos;
+            this.ticker = ticker;
+        }
+
+        @Override
+        public T get() {
+            for (; ; ) {
+                Timed<T> last = this.last.get();
+                if (fresh(last)) {
+                    return last.value;
+                }
+                if (!running.compareAndSet(false, true)) {
+                    if (last != null) {
+                        return last.value;
+                    }
+                    // No value to return yet, wait for the first execution, or for it to fail
+                    LockSupport.parkNanos(FIRST_VALUE_POLL_NANOS);
+                    continue;
+                }
+                try {
+                    // Another thread may have executed it between the read of last and the flag
+                    Timed<T> current = this.last.get();
+                    if (fresh(current)) {
+                        return current.value;
+                    }
+                    long now = ticker.read();
+                    T value = supplier.get();
+                    this.last.set(new Timed<>(value, now));
+                    return value;
+                } finally {
+                    running.set(false);
+                }
+            }
+        }
+
+        private boolean fresh(Timed<T> timed) {
+            return timed != null && ticker.read() - timed.nanos < durationNanos;
+        }
+    }
+
+    static class RateLimitedSupplier<T> implements Supplier<T> {
+
+        private final Supplier<T> supplier;
+        private final Supplier<T> fallback;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final Ticker ticker;
+
+        /**
+         * The time at which all the permits handed out so far are paid back, the bucket is full from then on
+         */
+        private final AtomicLong paidUntil;
+
+        RateLimitedSupplier(Supplier<T> supplier, Supplier<T> fallback, long intervalNanos, long burstNanos, Ticker ticker) {
+            this.supplier = supplier;
+            this.fallback = fallback;
+            this.intervalNanos = intervalNanos;
+            this.burstNanos = burstNanos;
+            this.ticker = ticker;
+            this.paidUntil = new AtomicLong(ticker.read() - burstNanos);
+        }
+
+        @Override
+        public T get() {
+            return tryAcquire() ? supplier.get() : fallback.get();
+        }
+
+        private boolean tryAcquire() {
+            long now = ticker.read();
+            for (; ; ) {
+                long paid = paidUntil.get();
+                long next = Math.max(paid, now) + intervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (paidUntil.compareAndSet(paid, next)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    static class Debouncer implements Runnable {
+
+        private final Runnable runnable;
+        private final long durationNanos;
+        private final ScheduledExecutorService scheduler;
+        private final Ticker ticker;
+
+        private final AtomicLong lastCall = new AtomicLong();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Debouncer(Runnable runnable, long durationNanos, ScheduledExecutorService scheduler, Ticker ticker) {
+            this.runnable = runnable;
+            this.durationNanos = durationNanos;
+            this.scheduler = scheduler;
+            this.ticker = ticker;
+        }
+
+        @Override
+        public void run() {
+            lastCall.set(ticker.read());
+            if (scheduled.compareAndSet(false, true)) {
+                schedule(durationNanos);
+            }
+        }
+
+        private void fire() {
+            long last = lastCall.get();
+            long wait = last + durationNanos - ticker.read();
+            if (wait > 0) {
+                schedule(wait);
+                return;
+            }
+            scheduled.set(false);
+            // A call between reading lastCall and clearing the flag saw the flag set and did not schedule itself
+            if (lastCall.get() != last) {
+                if (scheduled.compareAndSet(false, true)) {
+                    schedule(durationNanos);
+                }
+                return;
+            }
+            runnable.run();
+        }
+
+        /**
+         * Called with the flag set. If there is no timer to clear it, clear it here and run the trailing call at once,
+         * otherwise every later call would see the flag set and be dropped.
+         */
+        private void schedule(long delayNanos) {
+            try {
+                scheduler.schedule(this::fire, delayNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                scheduled.set(false);
+                runnable.run();
+            }
+        }
     }
 }
@@ -0,0 +1,270 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.basetools.service;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Coalesces concurrent calls for the same key into one: while a call for a key is in flight, other callers for that key
+ * share its result instead of calling again. Useful when a hot key misses and dozens of threads would otherwise hit the same service.
+ *
+ * Every caller gets its own future. Cancelling it only detaches that caller; the shared call is cancelled when all of its
+ * callers have cancelled. A successful result can be shared for {@link Config#shareResultMillis} after completion, failures never are.
+ * The shared results that expired are removed by the calls at most once per share window, so a key that is never called again is
+ * held for at most about two windows.
+ */
+public class SingleFlight<K, V> {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        /**
+         * How long a successful result is still handed to new callers after the call completed, 0 for in-flight calls only
+         */
+        long shareResultMillis = 0;
+
+        Ticker ticker = Ticker.systemTicker();
+    }
+
+    private static final class Flight<V> {
+
+        final CompletableFuture<V> result = new CompletableFuture<>();
+
+        /**
+         * The callers that have not cancelled, 0 once the flight is abandoned
+         */
+        final AtomicInteger callers = new AtomicInteger(1);
+
+        volatile long completedNanos;
+
+        boolean tryJoin() {
+            for (; ; ) {
+                int callers = this.callers.get();
+                if (callers <= 0) {
+                    return false;
+                }
+                if (this.callers.compareAndSet(callers, callers + 1)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long shareNanos;
+    private final Ticker ticker;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+
+    /**
+     * When the next call removes the expired results, see {@link #sweepExpired()}
+     */
+    private final AtomicLong nextSweepNanos;
+
+    public static <K, V> SingleFlight<K, V> of() {
+        return new SingleFlight<>(Config.of());
+    }
+
+    public static <K, V> SingleFlight<K, V> of(Config config) {
+        return new SingleFlight<>(config);
+    }
+
+    private SingleFlight(Config config) {
+        Preconditions.checkArgument(config.shareResultMillis >= 0, "shareResultMillis %s < 0", config.shareResultMillis);
+        this.shareNanos = TimeUnit.MILLISECONDS.toNanos(config.shareResultMillis);
+        this.ticker = config.ticker;
+        this.nextSweepNanos = new AtomicLong(ticker.read() + shareNanos);
+    }
+
+    /**
+     * @param call Starts the call, only invoked if no call for the key is in flight
+     * @return The result of the call, shared with the other callers of the key
+     */
+    public CompletableFuture<V> execute(K key, Supplier<? extends CompletableFuture<V>> call) {
+        calls.increment();
+        sweepExpired();
+        for (; ; ) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null) {
+                if (reusable(flight) && flight.tryJoin()) {
+                    return view(key, flight);
+                }
+                flights.remove(key, flight);
+                continue;
+            }
+            Flight<V> fresh = new Flight<>();
+            if (flights.putIfAbsent(key, fresh) == null) {
+                executions.increment();
+                start(key, fresh, call);
+                return view(key, fresh);
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link SingleFlight#execute(Object, Supplier)}, but the first caller runs the call in its own thread,
+     * and the others wait for it.
+     *
+     * @throws RuntimeException What the call threw, to all the callers that shared it
+     */
+    @SneakyThrows
+    public V call(K key, Supplier<V> call) {
+        CompletableFuture<V> promise = new CompletableFuture<>();
+        boolean[] leader = {false};
+        CompletableFuture<V> result = execute(key, () -> {
+            leader[0] = true;
+            return promise;
+        });
+        if (leader[0]) {
+            try {
+                promise.complete(call.get());
+            } catch (RuntimeException | Error e) {
+                promise.completeExceptionally(e);
+            }
+        }
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            throw e.getCause();
+        }
+    }
+
+    private boolean reusable(Flight<V> flight) {
+        if (!flight.result.isDone()) {
+            return true;
+        }
+        return shareNanos > 0 && !flight.result.isCompletedExceptionally() && ticker.read() - flight.completedNanos < shareNanos;
+    }
+
+    /**
+     * Remove the expired results if a share window passed since the last time, one caller does it and the others skip it
+     */
+    private void sweepExpired() {
+        if (shareNanos == 0) {
+            return;
+        }
+        long now = ticker.read();
+        long next = nextSweepNanos.get();
+        if (now - next >= 0 && nextSweepNanos.compareAndSet(next, now + shareNanos)) {
+            removeExpired();
+        }
+    }
+
+    private void removeExpired() {
+        flights.forEach((key, flight) -> {
+            if (!reusable(flight)) {
+                flights.remove(key, flight);
+            }
+        });
+    }
+
+    private void start(K key, Flight<V> flight, Supplier<? extends CompletableFuture<V>> call) {
+        CompletableFuture<V> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException | Error e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        CompletableFuture<V> started = future;
+        started.whenComplete((value, e) -> {
+            if (shareNanos > 0) {
+                flight.completedNanos = ticker.read();
+            }
+            if (e != null || shareNanos == 0) {
+                flights.remove(key, flight);
+            }
+            if (e == null) {
+                flight.result.complete(value);
+            } else {
+                flight.result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        });
+        flight.result.whenComplete((value, e) -> {
+            if (flight.result.isCancelled()) {
+                started.cancel(true);
+            }
+        });
+    }
+
+    private CompletableFuture<V> view(K key, Flight<V> flight) {
+        CompletableFuture<V> view = new CompletableFuture<>();
+        flight.result.whenComplete((value, e) -> {
+            if (e == null) {
+                view.complete(value);
+            } else {
+                view.completeExceptionally(e);
+            }
+        });
+        view.whenComplete((value, e) -> {
+            if (view.isCancelled() && !flight.result.isDone() && flight.callers.decrementAndGet() == 0) {
+                flights.remove(key, flight);
+                flight.result.cancel(true);
+            }
+        });
+        return view;
+    }
+
+    /**
+     * @return The number of calls to execute or call
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return The number of calls that actually ran
+     */
+    public long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return The number of calls that shared the result of another one
+     */
+    public long coalesced() {
+        return calls.sum() - executions.sum();
+    }
+
+    /**
+     * @return The number of keys with a call in flight, or a result still shared
+     */
+    public int inFlight() {
+        if (shareNanos > 0) {
+            removeExpired();
+        }
+        return flights.size();
+    }
+}
@@ -15,9 +15,15 @@
 
 package io.github.javajerrat.boost.codec;
 
+import com.google.common.base.Preconditions;
 import com.google.common.io.BaseEncoding;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * @author Frapples <isfrapples@outlook.com>
@@ -25,35 +31,135 @@ import java.io.Writer;
  */
 public class Codecs {
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Maps an ASCII character to its hex value, -1 for the characters that are not hex digits.
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
     /**
      * Convert byte[] to a string
      * @param srcBytes Source bytes
      * @return String
      */
     public static String byte2Hex(byte[] srcBytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : srcBytes) {
-            String hexString = Integer.toHexString(0x00ff & b);
-            sb.append(hexString.length() == 1 ? 0 : "").append(hexString);
+        return byte2Hex(srcBytes, 0, srcBytes.length);
+    }
+
+    /**
+     * Similar to {@link Codecs#byte2Hex(byte[])}, but only encode length bytes start at offset.
+     */
+    public static String byte2Hex(byte[] srcBytes, int offset, int length) {
+        Preconditions.checkPositionIndexes(offset, offset + length, srcBytes.length);
+        char[] chars = new char[length * 2];
+        for (int i = 0, j = 0; i < length; i++) {
+            int b = srcBytes[offset + i];
+            chars[j++] = HEX_DIGITS[(b >> 4) & 0x0f];
+            chars[j++] = HEX_DIGITS[b & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Encode the remaining bytes of the buffer. The buffer may be direct, and its position is not changed.
+     */
+    public static String byte2Hex(ByteBuffer buffer) {
+        int position = buffer.position();
+        int length = buffer.remaining();
+        char[] chars = new char[length * 2];
+        for (int i = 0, j = 0; i < length; i++) {
+            int b = buffer.get(position + i);
+            chars[j++] = HEX_DIGITS[(b >> 4) & 0x0f];
+            chars[j++] = HEX_DIGITS[b & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Write the hex of length bytes start at offset into the sink, without creating intermediate strings.
+     * @return The parameter sink
+     */
+    public static <A extends Appendable> A byte2Hex(byte[] srcBytes, int offset, int length, A sink) throws IOException {
+        Preconditions.checkPositionIndexes(offset, offset + length, srcBytes.length);
+        for (int i = 0; i < length; i++) {
+            int b = srcBytes[offset + i];
+            sink.append(HEX_DIGITS[(b >> 4) & 0x0f]).append(HEX_DIGITS[b & 0x0f]);
+        }
+        return sink;
+    }
+
+    /**
+     * Write the hex of the remaining bytes of the buffer into the sink. The position of the buffer is not changed.
+     * @return The parameter sink
+     */
+    public static <A extends Appendable> A byte2Hex(ByteBuffer buffer, A sink) throws IOException {
+        int limit = buffer.limit();
+        for (int i = buffer.position(); i < limit; i++) {
+            int b = buffer.get(i);
+            sink.append(HEX_DIGITS[(b >> 4) & 0x0f]).append(HEX_DIGITS[b & 0x0f]);
         }
-        return sb.toString();
+        return sink;
     }
 
     /**
      * Decode a hex string to a string
+     * Both lowercase and uppercase are accepted. If the length of source is odd, the last character is ignored.
      * @param source hex string
      * @return Decoded String
+     * @throws IllegalArgumentException If there is a character that is not a hex digit
      */
     public static byte[] hex2Bytes(String source) {
-        byte[] sourceBytes = new byte[source.length() / 2];
-        for (int i = 0; i < sourceBytes.length; i++) {
-            try {
-                sourceBytes[i] = (byte) Integer.parseInt(source.substring(i * 2, i * 2 + 2), 16);
-            } catch (NumberFormatException e) {
-                throw new IllegalArgumentException(e);
-            }
+        return hex2Bytes(source, 0, source.length());
+    }
+
+    /**
+     * Similar to {@link Codecs#hex2Bytes(String)}, but only decode the characters between start (inclusive) and end (exclusive).
+     */
+    public static byte[] hex2Bytes(CharSequence source, int start, int end) {
+        Preconditions.checkPositionIndexes(start, end, source.length());
+        byte[] bytes = new byte[(end - start) / 2];
+        for (int i = 0, j = start; i < bytes.length; i++, j += 2) {
+            bytes[i] = (byte) (hexValue(source, j) << 4 | hexValue(source, j + 1));
+        }
+        return bytes;
+    }
+
+    /**
+     * Decode the hex string into the buffer, starting at its current position. The buffer may be direct.
+     * @return The number of bytes written
+     * @throws java.nio.BufferOverflowException If there is insufficient space in the buffer
+     * @throws IllegalArgumentException If there is a character that is not a hex digit, the bytes before it have been written
+     */
+    public static int hex2Bytes(CharSequence source, ByteBuffer dest) {
+        int length = source.length() / 2;
+        if (dest.remaining() < length) {
+            throw new BufferOverflowException();
         }
-        return sourceBytes;
+        for (int i = 0, j = 0; i < length; i++, j += 2) {
+            dest.put((byte) (hexValue(source, j) << 4 | hexValue(source, j + 1)));
+        }
+        return length;
+    }
+
+    private static int hexValue(CharSequence source, int index) {
+        char c = source.charAt(index);
+        int value = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Illegal hex character '" + c + "' at index " + index);
+        }
+        return value;
     }
 
     public static byte[] base64Decode(CharSequence cs) {
@@ -68,4 +174,21 @@ public class Codecs {
         return BaseEncoding.base64().encodingStream(writer);
     }
 
+    /**
+     * Encode everything from in as base64 and write it to out, without holding the whole payload in memory.
+     * For the URL safe, MIME, base32 and hex variants, see {@link StreamingCodec}.
+     * @return The number of bytes written to out
+     */
+    public static long base64Encode(InputStream in, OutputStream out) throws IOException {
+        return StreamingCodec.base64().encode(in, out);
+    }
+
+    /**
+     * Decode the base64 text from in and write the bytes to out, without holding the whole payload in memory.
+     * @return The number of bytes written to out
+     */
+    public static long base64Decode(InputStream in, OutputStream out) throws IOException {
+        return StreamingCodec.base64().decode(in, out);
+    }
+
 }
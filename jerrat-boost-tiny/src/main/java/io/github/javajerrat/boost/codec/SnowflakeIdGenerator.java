@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import com.google.common.base.Preconditions;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Generate 64-bit, time ordered, unique ids in the Snowflake layout:
+ * <pre>
+ * | 0 | timestamp (ms since epoch) | worker id | shard | sequence |
+ * </pre>
+ *
+ * The generator is lock-free. Each thread is mapped to one of 2^shardBits shards, and each shard owns its slice of the sequence space
+ * and its own cache line, so threads of different shards never contend. Ids of one shard, and so of one thread, are strictly increasing;
+ * ids of different shards are ordered by millisecond only.
+ *
+ * If the sequence of a millisecond is exhausted, or the clock moves backwards, the shard borrows the following milliseconds
+ * (its timestamp runs ahead of the clock) instead of spinning. If it runs ahead by more than
+ * {@link Config#clockBackwardToleranceMillis}, the caller waits for the clock to catch up, and if that requires waiting longer than
+ * {@link Config#maxClockWaitMillis}, an {@link IllegalStateException} is thrown.
+ */
+public class SnowflakeIdGenerator {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        /**
+         * The epoch in milliseconds, 2019-01-01T00:00:00Z by default
+         */
+        long epoch = 1546300800000L;
+
+        /**
+         * 41 bits of milliseconds last about 69 years
+         */
+        int timestampBits = 41;
+
+        int workerBits = 10;
+
+        /**
+         * Includes the shard bits. timestampBits + workerBits + sequenceBits must be 63.
+         */
+        int sequenceBits = 12;
+
+        /**
+         * The number of shards is 2^shardBits. Each shard can generate 2^(sequenceBits - shardBits) ids per millisecond without borrowing.
+         */
+        int shardBits = 3;
+
+        long workerId = 0;
+
+        /**
+         * How far the timestamp of a shard may run ahead of the clock without waiting
+         */
+        long clockBackwardToleranceMillis = 5;
+
+        /**
+         * The longest time a caller will wait for the clock, otherwise the clock is considered broken
+         */
+        long maxClockWaitMillis = 1000;
+
+        LongSupplier clock = System::currentTimeMillis;
+    }
+
+    /**
+     * Number of longs between two shards, 128 bytes keeps them on different cache lines even with adjacent line prefetching
+     */
+    private static final int PADDING = 16;
+
+    private final long epoch;
+    private final long maxTimestamp;
+    private final long workerBlock;
+    private final long workerMask;
+    private final int sequenceBits;
+    private final int shardShift;
+    private final int localSequenceBits;
+    private final int timestampShift;
+    private final int shardMask;
+    private final long toleranceMillis;
+    private final long maxWaitMillis;
+    private final LongSupplier clock;
+
+    /**
+     * Per shard, the last (timestamp << localSequenceBits | sequence) handed out
+     */
+    private final AtomicLongArray states;
+
+    public static SnowflakeIdGenerator of(long workerId) {
+        return new SnowflakeIdGenerator(Config.of().workerId(workerId));
+    }
+
+    public static SnowflakeIdGenerator of(Config config) {
+        return new SnowflakeIdGenerator(config);
+    }
+
+    private SnowflakeIdGenerator(Config config) {
+        Preconditions.checkArgument(config.timestampBits + config.workerBits + config.sequenceBits == 63,
+            "timestampBits + workerBits + sequenceBits must be 63");
+        Preconditions.checkArgument(config.timestampBits > 0 && config.workerBits >= 0 && config.sequenceBits > 0);
+        Preconditions.checkArgument(config.shardBits >= 0 && config.shardBits < config.sequenceBits,
+            "shardBits must be less than sequenceBits");
+        Preconditions.checkArgument(config.workerId >= 0 && config.workerId < 1L << config.workerBits,
+            "workerId must be in [0, 2^workerBits)");
+        Preconditions.checkArgument(config.clockBackwardToleranceMillis >= 0 && config.maxClockWaitMillis >= 0);
+
+        this.epoch = config.epoch;
+        this.maxTimestamp = (1L << config.timestampBits) - 1;
+        this.localSequenceBits = config.sequenceBits - config.shardBits;
+        this.shardShift = localSequenceBits;
+        this.timestampShift = config.workerBits + config.sequenceBits;
+        this.workerBlock = config.workerId << config.sequenceBits;
+        this.workerMask = (1L << config.workerBits) - 1;
+        this.sequenceBits = config.sequenceBits;
+        this.shardMask = (1 << config.shardBits) - 1;
+        this.toleranceMillis = config.clockBackwardToleranceMillis;
+        this.maxWaitMillis = config.maxClockWaitMillis;
+        this.clock = config.clock;
+        this.states = new AtomicLongArray((shardMask + 2) * PADDING);
+    }
+
+    public long nextId() {
+        int shard = shard();
+        int index = (shard + 1) * PADDING;
+        for (; ; ) {
+            long prev = states.get(index);
+            long next = advance(prev, 1);
+            if (states.compareAndSet(index, prev, next)) {
+                return compose(shard, next);
+            }
+        }
+    }
+
+    /**
+     * Fill the array with consecutive ids of one shard, reserving all of them with a single atomic operation.
+     * @param ids The array to fill
+     */
+    public void nextIds(long[] ids) {
+        if (ids.length == 0) {
+            return;
+        }
+        int shard = shard();
+        int index = (shard + 1) * PADDING;
+        long last;
+        for (; ; ) {
+            long prev = states.get(index);
+            last = advance(prev, ids.length);
+            if (states.compareAndSet(index, prev, last)) {
+                break;
+            }
+        }
+        long first = last - ids.length + 1;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = compose(shard, first + i);
+        }
+    }
+
+    /**
+     * @return The time in epoch milliseconds encoded in the id
+     */
+    public long timestampOf(long id) {
+        return (id >>> timestampShift) + epoch;
+    }
+
+    public long workerIdOf(long id) {
+        return (id >>> sequenceBits) & workerMask;
+    }
+
+    /**
+     * @return The state after handing out count more ids, waiting for the clock if the shard is too far ahead of it
+     */
+    private long advance(long prev, int count) {
+        for (; ; ) {
+            long now = clock.getAsLong() - epoch;
+            long prevTimestamp = prev >>> localSequenceBits;
+            long next = now > prevTimestamp ? (now << localSequenceBits) + count - 1 : prev + count;
+            long ahead = (next >>> localSequenceBits) - now;
+            if (ahead <= toleranceMillis) {
+                if ((next >>> localSequenceBits) > maxTimestamp) {
+                    throw new IllegalStateException("Timestamp overflow, the epoch is too old or timestampBits is too small");
+                }
+                return next;
+            }
+            long wait = ahead - toleranceMillis;
+            if (wait > maxWaitMillis) {
+                throw new IllegalStateException("Clock moved backwards, refusing to generate ids for " + wait + " ms");
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(wait));
+        }
+    }
+
+    private long compose(int shard, long state) {
+        long timestamp = state >>> localSequenceBits;
+        long sequence = state & ((1L << localSequenceBits) - 1);
+        return timestamp << timestampShift | workerBlock | (long) shard << shardShift | sequence;
+    }
+
+    private int shard() {
+        // Fibonacci hashing spreads sequential thread ids over the shards
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40) & shardMask;
+    }
+}
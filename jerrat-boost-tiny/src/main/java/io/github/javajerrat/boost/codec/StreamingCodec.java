@@ -0,0 +1,385 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Streaming Base64/Base32/Hex encoder and decoder (RFC 4648, and RFC 2045 for MIME).
+ *
+ * Unlike {@link com.google.common.io.BaseEncoding#encode(byte[])}, the transcoding functions never hold the whole payload.
+ * Each call reads the source through one fixed input buffer, encodes or decodes it by table lookup into one fixed output buffer,
+ * and writes that buffer to the destination, so the memory used is independent of the size of the payload.
+ *
+ * Instances are immutable and thread safe. The channel variants are meant for blocking channels.
+ */
+public final class StreamingCodec {
+
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private static final byte PAD = '=';
+
+    private static final byte[] MIME_SEPARATOR = {'\r', '\n'};
+
+    private static final int MIME_LINE_LENGTH = 76;
+
+    private static final StreamingCodec BASE64 = new StreamingCodec(
+        "base64", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/", true, false, 0, DEFAULT_BUFFER_SIZE);
+
+    private static final StreamingCodec BASE64_URL = new StreamingCodec(
+        "base64Url", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_", true, false, 0, DEFAULT_BUFFER_SIZE);
+
+    private static final StreamingCodec BASE64_MIME = new StreamingCodec(
+        "base64Mime", "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/", true, false, MIME_LINE_LENGTH, DEFAULT_BUFFER_SIZE);
+
+    private static final StreamingCodec BASE32 = new StreamingCodec(
+        "base32", "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567", true, true, 0, DEFAULT_BUFFER_SIZE);
+
+    private static final StreamingCodec BASE32_HEX = new StreamingCodec(
+        "base32Hex", "0123456789ABCDEFGHIJKLMNOPQRSTUV", true, true, 0, DEFAULT_BUFFER_SIZE);
+
+    private static final StreamingCodec HEX = new StreamingCodec(
+        "hex", "0123456789abcdef", false, true, 0, DEFAULT_BUFFER_SIZE);
+
+    public static StreamingCodec base64() {
+        return BASE64;
+    }
+
+    /**
+     * The URL and filename safe alphabet, '+' and '/' are replaced by '-' and '_'.
+     */
+    public static StreamingCodec base64Url() {
+        return BASE64_URL;
+    }
+
+    /**
+     * The encoded output is split into lines of 76 characters separated by "\r\n".
+     * When decoding, all characters outside the alphabet are ignored.
+     */
+    public static StreamingCodec base64Mime() {
+        return BASE64_MIME;
+    }
+
+    public static StreamingCodec base32() {
+        return BASE32;
+    }
+
+    public static StreamingCodec base32Hex() {
+        return BASE32_HEX;
+    }
+
+    /**
+     * Lowercase when encoding, both lowercase and uppercase are accepted when decoding.
+     */
+    public static StreamingCodec hex() {
+        return HEX;
+    }
+
+    private final String name;
+    private final byte[] alphabet;
+    private final byte[] decodeTable = new byte[128];
+    private final int bitsPerChar;
+    private final int bytesPerBlock;
+    private final int charsPerBlock;
+    private final boolean padding;
+    private final boolean ignoreCase;
+    private final int lineLength;
+    private final int bufferSize;
+
+    private StreamingCodec(String name, String alphabet, boolean padding, boolean ignoreCase, int lineLength, int bufferSize) {
+        this.name = name;
+        this.alphabet = alphabet.getBytes(StandardCharsets.US_ASCII);
+        this.bitsPerChar = Integer.numberOfTrailingZeros(alphabet.length());
+        int blockBits = bitsPerChar * 8 / gcd(bitsPerChar, 8);
+        this.bytesPerBlock = blockBits / 8;
+        this.charsPerBlock = blockBits / bitsPerChar;
+        this.padding = padding;
+        this.ignoreCase = ignoreCase;
+        this.lineLength = lineLength;
+        this.bufferSize = bufferSize;
+
+        Arrays.fill(decodeTable, (byte) -1);
+        for (int i = 0; i < this.alphabet.length; i++) {
+            byte c = this.alphabet[i];
+            decodeTable[c] = (byte) i;
+            if (ignoreCase) {
+                decodeTable[Character.toLowerCase(c)] = (byte) i;
+                decodeTable[Character.toUpperCase(c)] = (byte) i;
+            }
+        }
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * @return A codec that neither writes nor requires the trailing '=' characters
+     */
+    public StreamingCodec omitPadding() {
+        return new StreamingCodec(name, new String(alphabet, StandardCharsets.US_ASCII),
+            false, ignoreCase, lineLength, bufferSize);
+    }
+
+    /**
+     * @param bufferSize Size in bytes of each of the two buffers used by one transcoding call
+     * @return A codec that uses buffers of the given size
+     */
+    public StreamingCodec withBufferSize(int bufferSize) {
+        Preconditions.checkArgument(bufferSize >= 64, "bufferSize must be at least 64");
+        return new StreamingCodec(name, new String(alphabet, StandardCharsets.US_ASCII),
+            padding, ignoreCase, lineLength, bufferSize);
+    }
+
+    /**
+     * Encode everything from in and write the text (as ASCII bytes) to out. Neither stream is closed.
+     * @return The number of bytes written to out
+     */
+    public long encode(InputStream in, OutputStream out) throws IOException {
+        Encoder encoder = new Encoder();
+        int n;
+        while ((n = in.read(encoder.in, encoder.filled, encoder.in.length - encoder.filled)) != -1) {
+            int produced = encoder.update(n);
+            if (produced > 0) {
+                out.write(encoder.out, 0, produced);
+            }
+        }
+        int produced = encoder.finish();
+        if (produced > 0) {
+            out.write(encoder.out, 0, produced);
+        }
+        return encoder.written;
+    }
+
+    /**
+     * Decode the text (as ASCII bytes) from in and write the bytes to out. Neither stream is closed.
+     * The trailing padding is optional.
+     * @return The number of bytes written to out
+     * @throws IOException If the input contains an illegal character or has an illegal length
+     */
+    public long decode(InputStream in, OutputStream out) throws IOException {
+        Decoder decoder = new Decoder();
+        int n;
+        while ((n = in.read(decoder.in)) != -1) {
+            int produced = decoder.update(n);
+            if (produced > 0) {
+                out.write(decoder.out, 0, produced);
+            }
+        }
+        decoder.finish();
+        return decoder.written;
+    }
+
+    /**
+     * Channel version of {@link StreamingCodec#encode(InputStream, OutputStream)}. Neither channel is closed.
+     */
+    public long encode(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Encoder encoder = new Encoder();
+        ByteBuffer inBuffer = ByteBuffer.wrap(encoder.in);
+        ByteBuffer outBuffer = ByteBuffer.wrap(encoder.out);
+        int n;
+        while ((n = in.read(inBuffer)) != -1) {
+            int produced = encoder.update(n);
+            writeFully(out, outBuffer, produced);
+            inBuffer.position(encoder.filled);
+        }
+        writeFully(out, outBuffer, encoder.finish());
+        return encoder.written;
+    }
+
+    /**
+     * Channel version of {@link StreamingCodec#decode(InputStream, OutputStream)}. Neither channel is closed.
+     */
+    public long decode(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+        Decoder decoder = new Decoder();
+        ByteBuffer inBuffer = ByteBuffer.wrap(decoder.in);
+        ByteBuffer outBuffer = ByteBuffer.wrap(decoder.out);
+        int n;
+        while ((n = in.read(inBuffer)) != -1) {
+            writeFully(out, outBuffer, decoder.update(n));
+            inBuffer.clear();
+        }
+        decoder.finish();
+        return decoder.written;
+    }
+
+    private static void writeFully(WritableByteChannel out, ByteBuffer buffer, int length) throws IOException {
+        buffer.clear().limit(length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingCodec." + name + "()" + (padding || bitsPerChar == 4 ? "" : ".omitPadding()");
+    }
+
+    /**
+     * Per call state of encoding. Only whole blocks are encoded until the end of the input,
+     * the incomplete block is moved to the front of the input buffer.
+     */
+    private final class Encoder {
+
+        final byte[] in;
+        final byte[] out;
+        int filled;
+        int column;
+        long written;
+
+        Encoder() {
+            int blocks = Math.max(1, bufferSize / bytesPerBlock);
+            in = new byte[blocks * bytesPerBlock];
+            int chars = blocks * charsPerBlock;
+            out = new byte[chars + (lineLength > 0 ? (chars / lineLength + 1) * MIME_SEPARATOR.length : 0)];
+        }
+
+        int update(int n) {
+            filled += n;
+            int whole = filled - filled % bytesPerBlock;
+            int pos = 0;
+            for (int i = 0; i < whole; i += bytesPerBlock) {
+                pos = separate(pos);
+                long block = 0;
+                for (int j = 0; j < bytesPerBlock; j++) {
+                    block = block << 8 | (in[i + j] & 0xff);
+                }
+                for (int shift = (charsPerBlock - 1) * bitsPerChar; shift >= 0; shift -= bitsPerChar) {
+                    out[pos++] = alphabet[(int) (block >>> shift) & (alphabet.length - 1)];
+                }
+            }
+            filled -= whole;
+            System.arraycopy(in, whole, in, 0, filled);
+            written += pos;
+            return pos;
+        }
+
+        int finish() {
+            if (filled == 0) {
+                return 0;
+            }
+            int pos = separate(0);
+            long block = 0;
+            for (int j = 0; j < bytesPerBlock; j++) {
+                block = block << 8 | (j < filled ? in[j] & 0xff : 0);
+            }
+            int chars = (filled * 8 + bitsPerChar - 1) / bitsPerChar;
+            int shift = (charsPerBlock - 1) * bitsPerChar;
+            for (int i = 0; i < chars; i++, shift -= bitsPerChar) {
+                out[pos++] = alphabet[(int) (block >>> shift) & (alphabet.length - 1)];
+            }
+            if (padding) {
+                for (int i = chars; i < charsPerBlock; i++) {
+                    out[pos++] = PAD;
+                }
+            }
+            filled = 0;
+            written += pos;
+            return pos;
+        }
+
+        /**
+         * The line length is a multiple of the block length, so lines are only broken between blocks.
+         */
+        private int separate(int pos) {
+            if (lineLength > 0) {
+                if (column == lineLength) {
+                    for (byte b : MIME_SEPARATOR) {
+                        out[pos++] = b;
+                    }
+                    column = 0;
+                }
+                column += charsPerBlock;
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Per call state of decoding. Bits are accumulated character by character and flushed as soon as a byte is complete.
+     */
+    private final class Decoder {
+
+        final byte[] in;
+        final byte[] out;
+        long position;
+        int bits;
+        int bitCount;
+        int charsInBlock;
+        boolean paddingSeen;
+        long written;
+
+        Decoder() {
+            in = new byte[bufferSize];
+            out = new byte[bufferSize * bitsPerChar / 8 + 1];
+        }
+
+        int update(int n) throws IOException {
+            int pos = 0;
+            for (int i = 0; i < n; i++, position++) {
+                int c = in[i] & 0xff;
+                int value = c < decodeTable.length ? decodeTable[c] : -1;
+                if (value < 0) {
+                    if (c == PAD && bitsPerChar != 4) {
+                        paddingSeen = true;
+                        continue;
+                    }
+                    if (lineLength > 0) {
+                        continue;
+                    }
+                    throw new IOException("Illegal " + name + " character 0x" + Integer.toHexString(c) + " at position " + position);
+                }
+                if (paddingSeen) {
+                    throw new IOException("Illegal " + name + " character 0x" + Integer.toHexString(c) + " after padding at position " + position);
+                }
+                bits = bits << bitsPerChar | value;
+                bitCount += bitsPerChar;
+                if (bitCount >= 8) {
+                    bitCount -= 8;
+                    out[pos++] = (byte) (bits >>> bitCount);
+                    bits &= (1 << bitCount) - 1;
+                }
+                if (++charsInBlock == charsPerBlock) {
+                    charsInBlock = 0;
+                }
+            }
+            written += pos;
+            return pos;
+        }
+
+        void finish() throws IOException {
+            if (charsInBlock == 0) {
+                return;
+            }
+            // A valid tail is the shortest number of characters that can hold its bytes
+            int bytes = charsInBlock * bitsPerChar / 8;
+            if (bytes == 0 || (bytes * 8 + bitsPerChar - 1) / bitsPerChar != charsInBlock) {
+                throw new IOException("Illegal " + name + " input length, " + charsInBlock + " trailing characters");
+            }
+        }
+    }
+}
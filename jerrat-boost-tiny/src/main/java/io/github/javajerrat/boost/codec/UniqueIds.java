@@ -16,11 +16,11 @@
 package io.github.javajerrat.boost.codec;
 
 import com.google.common.annotations.Beta;
-import com.google.common.io.BaseEncoding;
-import java.io.ByteArrayOutputStream;
-import java.io.DataOutputStream;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.UUID;
-import lombok.SneakyThrows;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * @author Frapples <isfrapples@outlook.com>
@@ -32,25 +32,141 @@ public class UniqueIds {
         return UUID.randomUUID().toString();
     }
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final char[] BASE32_DIGITS = "0123456789abcdefghijklmnopqrstuv".toCharArray();
+
+    private static final char[] BASE64_URL_DIGITS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private static final byte[] BASE32_VALUES = valuesOf(BASE32_DIGITS, true);
+
+    private static final byte[] BASE64_URL_VALUES = valuesOf(BASE64_URL_DIGITS, false);
+
+    private static byte[] valuesOf(char[] digits, boolean ignoreCase) {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < digits.length; i++) {
+            values[digits[i]] = (byte) i;
+            if (ignoreCase) {
+                values[Character.toUpperCase(digits[i])] = (byte) i;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Create a version 4 UUID from the given random source.
+     * {@link UUID#randomUUID()} uses one shared {@link java.security.SecureRandom}, which contends under load.
+     * For ids that are not secrets, pass {@link ThreadLocalRandom#current()}.
+     */
+    public static UUID randomUuid(@NotNull Random random) {
+        return new UUID(randomMsb(random), randomLsb(random));
+    }
+
+    private static long randomMsb(Random random) {
+        return random.nextLong() & ~0xf000L | 0x4000L;
+    }
+
+    private static long randomLsb(Random random) {
+        return random.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+    }
+
     /**
      * @return * Returns the 32-bit UUID.
      * Compared to the standard 36-bit UUID, the 32-bit UUID is removed - and consists of only 15 characters of 0-9, a-f.
      */
     public static String uuidAs32() {
-        return uuid().replace("-", "");
+        return uuidAs32(UUID.randomUUID());
+    }
+
+    /**
+     * Similar to {@link UniqueIds#uuidAs32()}, but the random bits come from the given random source.
+     */
+    public static String uuidAs32(@NotNull Random random) {
+        return encodeAs32(randomMsb(random), randomLsb(random));
+    }
+
+    /**
+     * Encode the given UUID as {@link UniqueIds#uuidAs32()} does.
+     */
+    public static String uuidAs32(@NotNull UUID uuid) {
+        return encodeAs32(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Decode the string returned by the uuidAs32 functions, uppercase is accepted.
+     * @throws IllegalArgumentException If it is not a valid 32 characters UUID
+     */
+    public static UUID parseUuidAs32(@NotNull CharSequence cs) {
+        checkLength(cs, 32);
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 16; i++) {
+            high = high << 4 | digit(cs, i, BASE32_VALUES, 16);
+            low = low << 4 | digit(cs, i + 16, BASE32_VALUES, 16);
+        }
+        return new UUID(high, low);
+    }
+
+    private static String encodeAs32(long high, long low) {
+        char[] chars = new char[32];
+        for (int i = 0, shift = 60; i < 16; i++, shift -= 4) {
+            chars[i] = HEX_DIGITS[(int) (high >>> shift) & 0xf];
+            chars[i + 16] = HEX_DIGITS[(int) (low >>> shift) & 0xf];
+        }
+        return new String(chars);
     }
 
     /**
      * @return * Returns the 26-bit UUID.
      * Compared to the standard 36-bit UUID, 26 bits consist of only 31 characters of 0-9, a-v.
+     * Each half of the UUID is written as 13 digits of base 32, left padded with 0, so the length is always 26.
      */
     @Beta
     public static String uuidAs26() {
-        UUID uuid = UUID.randomUUID();
-        long high = uuid.getMostSignificantBits();
-        long low = uuid.getLeastSignificantBits();
+        return uuidAs26(UUID.randomUUID());
+    }
+
+    /**
+     * Similar to {@link UniqueIds#uuidAs26()}, but the random bits come from the given random source.
+     */
+    @Beta
+    public static String uuidAs26(@NotNull Random random) {
+        return encodeAs26(randomMsb(random), randomLsb(random));
+    }
 
-        return Long.toUnsignedString(high, 32) + Long.toUnsignedString(low, 32);
+    /**
+     * Encode the given UUID as {@link UniqueIds#uuidAs26()} does.
+     */
+    @Beta
+    public static String uuidAs26(@NotNull UUID uuid) {
+        return encodeAs26(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Decode the string returned by the uuidAs26 functions, uppercase is accepted.
+     * @throws IllegalArgumentException If it is not a valid 26 characters UUID
+     */
+    @Beta
+    public static UUID parseUuidAs26(@NotNull CharSequence cs) {
+        checkLength(cs, 26);
+        // The first digit of each half only holds 4 bits
+        long high = digit(cs, 0, BASE32_VALUES, 16);
+        long low = digit(cs, 13, BASE32_VALUES, 16);
+        for (int i = 1; i < 13; i++) {
+            high = high << 5 | digit(cs, i, BASE32_VALUES, 32);
+            low = low << 5 | digit(cs, i + 13, BASE32_VALUES, 32);
+        }
+        return new UUID(high, low);
+    }
+
+    private static String encodeAs26(long high, long low) {
+        char[] chars = new char[26];
+        for (int i = 0, shift = 60; i < 13; i++, shift -= 5) {
+            chars[i] = BASE32_DIGITS[(int) (high >>> shift) & 31];
+            chars[i + 13] = BASE32_DIGITS[(int) (low >>> shift) & 31];
+        }
+        return new String(chars);
     }
 
     /**
@@ -58,19 +174,162 @@ public class UniqueIds {
      * Compared to the standard 36-bit UUID, 22 bits are consistent with the characters used by Base64Url encoding.
      * It consists of all numbers, lowercase letters, uppercase letters, and _ and - symbols for a total of 64 symbols.
      */
-    @SneakyThrows
     @Beta
     public static String uuidAs22() {
-        UUID uuid = UUID.randomUUID();
-        long high = uuid.getMostSignificantBits();
-        long low = uuid.getLeastSignificantBits();
-
-        ByteArrayOutputStream bas = new ByteArrayOutputStream();
-        DataOutputStream os = new DataOutputStream(bas);
-        os.writeLong(high);
-        os.writeLong(low);
-        os.flush();
-        byte[] bytes = bas.toByteArray();
-        return BaseEncoding.base64Url().encode(bytes).replace("=", "");
+        return uuidAs22(UUID.randomUUID());
+    }
+
+    /**
+     * Similar to {@link UniqueIds#uuidAs22()}, but the random bits come from the given random source.
+     */
+    @Beta
+    public static String uuidAs22(@NotNull Random random) {
+        return encodeAs22(randomMsb(random), randomLsb(random));
+    }
+
+    /**
+     * Encode the given UUID as {@link UniqueIds#uuidAs22()} does.
+     */
+    @Beta
+    public static String uuidAs22(@NotNull UUID uuid) {
+        return encodeAs22(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Decode the string returned by the uuidAs22 functions.
+     * @throws IllegalArgumentException If it is not a valid 22 characters UUID
+     */
+    @Beta
+    public static UUID parseUuidAs22(@NotNull CharSequence cs) {
+        checkLength(cs, 22);
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 21; i++) {
+            int digit = digit(cs, i, BASE64_URL_VALUES, 64);
+            high = high << 6 | low >>> 58;
+            low = low << 6 | digit;
+        }
+        // The last character holds the 2 lowest bits followed by 4 zero bits
+        int last = digit(cs, 21, BASE64_URL_VALUES, 64);
+        if ((last & 0xf) != 0) {
+            throw new IllegalArgumentException("Illegal last character '" + cs.charAt(21) + "'");
+        }
+        high = high << 2 | low >>> 62;
+        low = low << 2 | last >>> 4;
+        return new UUID(high, low);
+    }
+
+    private static String encodeAs22(long high, long low) {
+        char[] chars = new char[22];
+        for (int i = 0, shift = 122; i < 21; i++, shift -= 6) {
+            chars[i] = BASE64_URL_DIGITS[bits(high, low, shift) & 63];
+        }
+        chars[21] = BASE64_URL_DIGITS[(int) (low & 3) << 4];
+        return new String(chars);
+    }
+
+    /**
+     * @return The bits of the 128-bit number high:low starting at shift, as an int
+     */
+    private static int bits(long high, long low, int shift) {
+        if (shift >= 64) {
+            return (int) (high >>> (shift - 64));
+        } else if (shift == 0) {
+            return (int) low;
+        } else {
+            return (int) (high << (64 - shift) | low >>> shift);
+        }
+    }
+
+    private static void checkLength(CharSequence cs, int length) {
+        if (cs.length() != length) {
+            throw new IllegalArgumentException("The length must be " + length + ", but was " + cs.length());
+        }
+    }
+
+    private static int digit(CharSequence cs, int index, byte[] values, int radix) {
+        char c = cs.charAt(index);
+        int value = c < values.length ? values[c] : -1;
+        if (value < 0 || value >= radix) {
+            throw new IllegalArgumentException("Illegal character '" + c + "' at index " + index);
+        }
+        return value;
+    }
+
+    private static final char[] CROCKFORD_BASE32 = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /**
+     * Per thread state of the time ordered ids, so that they are monotonic within a thread without any lock.
+     */
+    private static final ThreadLocal<TimeOrderedState> TIME_ORDERED_STATE = ThreadLocal.withInitial(TimeOrderedState::new);
+
+    private static class TimeOrderedState {
+
+        long ulidMillis = -1;
+        long ulidHigh;
+        long ulidLow;
+
+        long uuid7Millis = -1;
+        int uuid7Counter;
+    }
+
+    /**
+     * @return Returns a ULID (https://github.com/ulid/spec), 26 characters of Crockford's base32.
+     * 48 bits of milliseconds followed by 80 random bits, so ULIDs sort by creation time as strings.
+     * Within a thread, ULIDs of the same millisecond are monotonic: the random part of the previous one is incremented.
+     * The random bits come from {@link ThreadLocalRandom}, ULIDs must not be used as secrets.
+     */
+    public static String ulid() {
+        TimeOrderedState state = TIME_ORDERED_STATE.get();
+        long now = System.currentTimeMillis();
+        if (now > state.ulidMillis) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            state.ulidMillis = now;
+            // Keep the top bit clear, so the increments of one millisecond never overflow the 80 bits
+            state.ulidHigh = random.nextInt(1 << 15);
+            state.ulidLow = random.nextLong();
+        } else {
+            // Same millisecond, or the clock moved backwards: keep the previous time to stay monotonic
+            state.ulidLow++;
+            if (state.ulidLow == 0) {
+                state.ulidHigh++;
+            }
+        }
+
+        char[] chars = new char[26];
+        long millis = state.ulidMillis;
+        for (int i = 0; i < 10; i++) {
+            chars[i] = CROCKFORD_BASE32[(int) (millis >>> (45 - 5 * i)) & 31];
+        }
+        long high = state.ulidHigh;
+        long low = state.ulidLow;
+        for (int i = 0, shift = 75; i < 16; i++, shift -= 5) {
+            chars[10 + i] = CROCKFORD_BASE32[bits(high, low, shift) & 31];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return Returns a version 7 UUID (RFC 9562): 48 bits of Unix milliseconds, then a 12 bit counter and 62 random bits.
+     * UUIDv7 sort by creation time, which keeps database indexes compact.
+     * Within a thread, the counter makes the UUIDs of the same millisecond monotonic.
+     * The random bits come from {@link ThreadLocalRandom}, these UUIDs must not be used as secrets.
+     */
+    public static UUID uuid7() {
+        TimeOrderedState state = TIME_ORDERED_STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        if (now > state.uuid7Millis) {
+            state.uuid7Millis = now;
+            // Start in the lower half, leaving room for at least 2048 increments
+            state.uuid7Counter = random.nextInt(1 << 11);
+        } else if (++state.uuid7Counter > 0xfff) {
+            // The counter is exhausted: borrow the next millisecond
+            state.uuid7Millis++;
+            state.uuid7Counter = random.nextInt(1 << 11);
+        }
+        long msb = state.uuid7Millis << 16 | 0x7000L | state.uuid7Counter;
+        long lsb = random.nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+        return new UUID(msb, lsb);
     }
 }
@@ -0,0 +1,278 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * K-way merges of sorted iterators with a loser tree (tournament tree).
+ *
+ * The k sources are the leaves of a complete binary tree, each internal node holds the source that lost the match played there,
+ * and node 0 holds the overall winner. Taking the winner only replays the matches on the path from its leaf to the root,
+ * so an element costs ceil(log2(k)) comparisons, about half of what a binary heap needs to remove and reinsert the head.
+ *
+ * Ties are won by the source that comes first, so the merges are stable. An exhausted source loses every match.
+ * The heads of all the sources are read when the iterator is created.
+ */
+final class LoserTrees {
+
+    private LoserTrees() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * The parent of leaf i is node (i + k) / 2: the leaves are nodes k to 2k - 1 of a heap layout, and the nodes 1 to k - 1
+     * are internal. At build time node entries equal to k stand for a virtual source that beats every other one, so that
+     * building is k replays.
+     */
+    private static int[] newTree(int k) {
+        int[] tree = new int[Math.max(k, 1)];
+        Arrays.fill(tree, k);
+        return tree;
+    }
+
+    static final class MergingIterator<T> implements Iterator<T> {
+
+        private final Iterator<? extends T>[] sources;
+        private final Comparator<? super T> comparator;
+        private final Object[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree;
+        private final int k;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        MergingIterator(List<? extends Iterator<? extends T>> sources, Comparator<? super T> comparator) {
+            this.sources = sources.toArray(new Iterator[0]);
+            this.comparator = comparator;
+            this.k = this.sources.length;
+            this.heads = new Object[k];
+            this.exhausted = new boolean[k];
+            this.tree = newTree(k);
+            for (int i = k - 1; i >= 0; i--) {
+                advance(i);
+                replay(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return k > 0 && !exhausted[tree[0]];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int winner = tree[0];
+            T value = (T) heads[winner];
+            advance(winner);
+            replay(winner);
+            return value;
+        }
+
+        private void advance(int source) {
+            if (sources[source].hasNext()) {
+                heads[source] = sources[source].next();
+            } else {
+                heads[source] = null;
+                exhausted[source] = true;
+            }
+        }
+
+        private void replay(int source) {
+            int winner = source;
+            for (int node = (source + k) >>> 1; node > 0; node >>>= 1) {
+                int other = tree[node];
+                if (beats(other, winner)) {
+                    tree[node] = winner;
+                    winner = other;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        @SuppressWarnings("unchecked")
+        private boolean beats(int a, int b) {
+            if (a == k || b == k) {
+                return b != k;
+            }
+            if (exhausted[a] || exhausted[b]) {
+                return exhausted[a] == exhausted[b] ? a < b : exhausted[b];
+            }
+            int c = comparator.compare((T) heads[a], (T) heads[b]);
+            return c < 0 || (c == 0 && a < b);
+        }
+    }
+
+    /**
+     * Merges by a long key that is computed once per element, the matches compare the keys without calling a comparator
+     */
+    static final class LongKeyMergingIterator<T> implements Iterator<T> {
+
+        private final Iterator<? extends T>[] sources;
+        private final ToLongFunction<? super T> key;
+        private final Object[] heads;
+        private final long[] keys;
+        private final boolean[] exhausted;
+        private final int[] tree;
+        private final int k;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        LongKeyMergingIterator(List<? extends Iterator<? extends T>> sources, ToLongFunction<? super T> key) {
+            this.sources = sources.toArray(new Iterator[0]);
+            this.key = key;
+            this.k = this.sources.length;
+            this.heads = new Object[k];
+            this.keys = new long[k];
+            this.exhausted = new boolean[k];
+            this.tree = newTree(k);
+            for (int i = k - 1; i >= 0; i--) {
+                advance(i);
+                replay(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return k > 0 && !exhausted[tree[0]];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int winner = tree[0];
+            T value = (T) heads[winner];
+            advance(winner);
+            replay(winner);
+            return value;
+        }
+
+        private void advance(int source) {
+            if (sources[source].hasNext()) {
+                T head = sources[source].next();
+                heads[source] = head;
+                keys[source] = key.applyAsLong(head);
+            } else {
+                heads[source] = null;
+                exhausted[source] = true;
+            }
+        }
+
+        private void replay(int source) {
+            int winner = source;
+            for (int node = (source + k) >>> 1; node > 0; node >>>= 1) {
+                int other = tree[node];
+                if (beats(other, winner)) {
+                    tree[node] = winner;
+                    winner = other;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        private boolean beats(int a, int b) {
+            if (a == k || b == k) {
+                return b != k;
+            }
+            if (exhausted[a] || exhausted[b]) {
+                return exhausted[a] == exhausted[b] ? a < b : exhausted[b];
+            }
+            return keys[a] < keys[b] || (keys[a] == keys[b] && a < b);
+        }
+    }
+
+    static final class LongMergingIterator implements PrimitiveIterator.OfLong {
+
+        private final PrimitiveIterator.OfLong[] sources;
+        private final long[] heads;
+        private final boolean[] exhausted;
+        private final int[] tree;
+        private final int k;
+
+        LongMergingIterator(List<? extends PrimitiveIterator.OfLong> sources) {
+            this.sources = sources.toArray(new PrimitiveIterator.OfLong[0]);
+            this.k = this.sources.length;
+            this.heads = new long[k];
+            this.exhausted = new boolean[k];
+            this.tree = newTree(k);
+            for (int i = k - 1; i >= 0; i--) {
+                advance(i);
+                replay(i);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return k > 0 && !exhausted[tree[0]];
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int winner = tree[0];
+            long value = heads[winner];
+            advance(winner);
+            replay(winner);
+            return value;
+        }
+
+        private void advance(int source) {
+            if (sources[source].hasNext()) {
+                heads[source] = sources[source].nextLong();
+            } else {
+                exhausted[source] = true;
+            }
+        }
+
+        private void replay(int source) {
+            int winner = source;
+            for (int node = (source + k) >>> 1; node > 0; node >>>= 1) {
+                int other = tree[node];
+                if (beats(other, winner)) {
+                    tree[node] = winner;
+                    winner = other;
+                }
+            }
+            tree[0] = winner;
+        }
+
+        private boolean beats(int a, int b) {
+            if (a == k || b == k) {
+                return b != k;
+            }
+            if (exhausted[a] || exhausted[b]) {
+                return exhausted[a] == exhausted[b] ? a < b : exhausted[b];
+            }
+            return heads[a] < heads[b] || (heads[a] == heads[b] && a < b);
+        }
+    }
+}
@@ -31,6 +31,11 @@ import com.google.common.primitives.Ints;
 import com.google.common.primitives.Longs;
 import com.google.common.primitives.Shorts;
 import io.github.javajerrat.boost.lang.collection.iterable.FIterable;
+import io.github.javajerrat.boost.lang.collection.primitive.IntArrayList;
+import io.github.javajerrat.boost.lang.collection.primitive.IntHashSet;
+import io.github.javajerrat.boost.lang.collection.primitive.IntIntHashMap;
+import io.github.javajerrat.boost.lang.collection.primitive.LongArrayList;
+import io.github.javajerrat.boost.lang.collection.primitive.LongObjectHashMap;
 import io.github.javajerrat.boost.lang.functions.IntFunction2;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -51,6 +56,7 @@ import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.NavigableSet;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
@@ -60,7 +66,9 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -154,6 +162,29 @@ public class MoreCollections {
         return Doubles.asList(args);
     }
 
+    /**
+     * The primitive collections keep the elements unboxed, see {@link IntArrayList}, {@link IntHashSet} and {@link IntIntHashMap}.
+     */
+    public static IntArrayList intArrayListOf(int... args) {
+        return IntArrayList.of(args);
+    }
+
+    public static LongArrayList longArrayListOf(long... args) {
+        return LongArrayList.of(args);
+    }
+
+    public static IntHashSet intHashSetOf(int... elements) {
+        return IntHashSet.of(elements);
+    }
+
+    public static IntIntHashMap intIntHashMapOf() {
+        return new IntIntHashMap();
+    }
+
+    public static <V> LongObjectHashMap<V> longObjectHashMapOf() {
+        return new LongObjectHashMap<>();
+    }
+
     @Unmodifiable
     public static <T> List<T> repeatListOf(T o, int n) {
         return Collections.nCopies(n, o);
@@ -929,9 +960,57 @@ public class MoreCollections {
         return mergeSortedView(iterables, comparator).toList();
     }
 
+    /**
+     * Merges with a loser tree, see {@link LoserTrees}: about log2(k) comparisons per element for k iterables.
+     * The merge is stable, equal elements come in the order of their iterables.
+     * Each traversal reads the first element of every iterable up front.
+     *
+     * @param iterables Each one sorted by comparator
+     * @see ParallelCollections#mergeSorted(List, Comparator) Merges lists in parallel
+     * @see io.github.javajerrat.boost.lang.collection.external.ExternalMerges Merges more iterables than can be open at the same time
+     */
     @Beta
     public static <T> FIterable<T> mergeSortedView(@NotNull Iterable<? extends Iterable<? extends T>> iterables, Comparator<? super T> comparator) {
-        return FIterable.from(Iterables.mergeSorted(iterables, comparator));
+        return FIterable.from(() -> new LoserTrees.MergingIterator<>(iterators(iterables), comparator));
+    }
+
+    @Beta
+    public static <T> List<T> mergeSortedByLong(@NotNull Iterable<? extends Iterable<? extends T>> iterables, @NotNull ToLongFunction<? super T> key) {
+        return mergeSortedViewByLong(iterables, key).toList();
+    }
+
+    /**
+     * {@link #mergeSortedView(Iterable, Comparator)} for iterables sorted by a long key, e.g. an id or a timestamp.
+     * The key is computed once per element and the keys are compared unboxed, without a comparator.
+     */
+    @Beta
+    public static <T> FIterable<T> mergeSortedViewByLong(@NotNull Iterable<? extends Iterable<? extends T>> iterables, @NotNull ToLongFunction<? super T> key) {
+        return FIterable.from(() -> new LoserTrees.LongKeyMergingIterator<>(iterators(iterables), key));
+    }
+
+    /**
+     * @param lists Each one sorted in ascending order
+     * @return All the values, sorted in ascending order
+     */
+    @Beta
+    public static LongArrayList mergeSortedLongs(@NotNull Collection<LongArrayList> lists) {
+        List<PrimitiveIterator.OfLong> iterators = new ArrayList<>(lists.size());
+        int size = 0;
+        for (LongArrayList list : lists) {
+            iterators.add(list.iterator());
+            size += list.size();
+        }
+        LongArrayList merged = new LongArrayList(size);
+        new LoserTrees.LongMergingIterator(iterators).forEachRemaining((LongConsumer) merged::add);
+        return merged;
+    }
+
+    private static <T> List<Iterator<? extends T>> iterators(Iterable<? extends Iterable<? extends T>> iterables) {
+        List<Iterator<? extends T>> iterators = new ArrayList<>();
+        for (Iterable<? extends T> iterable : iterables) {
+            iterators.add(iterable.iterator());
+        }
+        return iterators;
     }
 
     /**
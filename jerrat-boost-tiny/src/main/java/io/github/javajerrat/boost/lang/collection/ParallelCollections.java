@@ -0,0 +1,406 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Parallel versions of the aggregations of {@link MoreCollections}, for lists of millions of elements.
+ * {@link #mergeSorted(List, Comparator, Config)} is described on the method.
+ *
+ * The list is split into chunks that are aggregated by the tasks of a {@link ForkJoinPool} into partial maps, which are merged pairwise
+ * in list order. So the results, including the order of keys and of grouped elements, are the same as those of the sequential versions.
+ * Lists below {@link Config#threshold}, and all lists on a pool of one worker, are aggregated sequentially.
+ * A list that is not {@link RandomAccess} is copied first.
+ *
+ * The functions are called concurrently, so they must be thread-safe.
+ */
+public class ParallelCollections {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        /**
+         * Smaller inputs are aggregated sequentially, splitting them costs more than it saves
+         */
+        int threshold = 1 << 16;
+
+        /**
+         * The smallest number of elements a task aggregates by itself
+         */
+        int minChunkSize = 1 << 13;
+    }
+
+    public ParallelCollections() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @see MoreCollections#groupBy(Iterable, Function)
+     */
+    public static <T, U> Map<U, List<T>> groupBy(@NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee) {
+        return groupBy(list, iteratee, Config.of());
+    }
+
+    public static <T, U> Map<U, List<T>> groupBy(
+        @NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee, @NotNull Config config) {
+        return aggregate(list, config,
+            chunk -> MoreCollections.groupBy(chunk, iteratee::apply),
+            ParallelCollections::mergeGroups);
+    }
+
+    /**
+     * @see MoreCollections#groupBy(Iterable, Function, Function)
+     */
+    public static <T, U, V> Map<U, List<V>> groupBy(
+        @NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee, @NotNull Function<? super T, ? extends V> valueFunction) {
+        return groupBy(list, iteratee, valueFunction, Config.of());
+    }
+
+    public static <T, U, V> Map<U, List<V>> groupBy(
+        @NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee, @NotNull Function<? super T, ? extends V> valueFunction,
+        @NotNull Config config) {
+        return aggregate(list, config,
+            chunk -> MoreCollections.groupBy(chunk, iteratee::apply, valueFunction::apply),
+            ParallelCollections::mergeGroups);
+    }
+
+    /**
+     * @see MoreCollections#countBy(Iterable, Function)
+     */
+    public static <T, U> Map<U, Integer> countBy(@NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee) {
+        return countBy(list, iteratee, Config.of());
+    }
+
+    public static <T, U> Map<U, Integer> countBy(
+        @NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee, @NotNull Config config) {
+        return aggregate(list, config,
+            chunk -> MoreCollections.countBy(chunk, iteratee::apply),
+            (left, right) -> {
+                right.forEach((key, count) -> left.merge(key, count, Integer::sum));
+                return left;
+            });
+    }
+
+    /**
+     * @see MoreCollections#keyBy(Iterable, Function)
+     */
+    public static <E, T> Map<E, T> keyBy(@NotNull List<? extends T> list, @NotNull Function<? super T, ? extends E> keyFunction) {
+        return keyBy(list, keyFunction, Config.of());
+    }
+
+    public static <E, T> Map<E, T> keyBy(
+        @NotNull List<? extends T> list, @NotNull Function<? super T, ? extends E> keyFunction, @NotNull Config config) {
+        return keyBy(list, keyFunction, Function.identity(), config);
+    }
+
+    /**
+     * @see MoreCollections#keyBy(Iterable, Function, Function)
+     */
+    public static <E, T, V> Map<E, V> keyBy(@NotNull List<? extends T> list,
+        @NotNull Function<? super T, ? extends E> keyFunction,
+        @NotNull Function<? super T, ? extends V> valueFunction,
+        @NotNull Config config) {
+        return aggregate(list, config,
+            chunk -> MoreCollections.keyBy(chunk, keyFunction, valueFunction),
+            (left, right) -> {
+                // A later element overwrites the value of an earlier one, and keeps the position of its key
+                left.putAll(right);
+                return left;
+            });
+    }
+
+    /**
+     * @see MoreCollections#invertBy(Map, Function)
+     */
+    public static <K, V, E> Map<E, List<K>> invertBy(
+        @NotNull Map<? extends K, ? extends V> map, @NotNull Function<? super V, ? extends E> valueFunction) {
+        return invertBy(map, valueFunction, Config.of());
+    }
+
+    public static <K, V, E> Map<E, List<K>> invertBy(
+        @NotNull Map<? extends K, ? extends V> map, @NotNull Function<? super V, ? extends E> valueFunction, @NotNull Config config) {
+        List<Entry<? extends K, ? extends V>> entries = new ArrayList<>(map.entrySet());
+        return aggregate(entries, config,
+            chunk -> {
+                Map<E, List<K>> inverted = new HashMap<>();
+                for (Entry<? extends K, ? extends V> entry : chunk) {
+                    inverted.computeIfAbsent(valueFunction.apply(entry.getValue()), k -> new ArrayList<>()).add(entry.getKey());
+                }
+                return inverted;
+            },
+            ParallelCollections::mergeGroups);
+    }
+
+    /**
+     * @see MoreCollections#isDistinct(Iterable)
+     */
+    public static <T> boolean isDistinct(@NotNull List<T> list) {
+        return isDistinct(list, Function.identity(), Config.of());
+    }
+
+    public static <T, U> boolean isDistinct(@NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee) {
+        return isDistinct(list, iteratee, Config.of());
+    }
+
+    /**
+     * All the tasks add the keys to one concurrent set, and stop at the first duplicate. The set does not take null,
+     * so a null key is tracked by a flag of its own.
+     *
+     * @see MoreCollections#isDistinct(Iterable, Function)
+     */
+    public static <T, U> boolean isDistinct(
+        @NotNull List<T> list, @NotNull Function<? super T, ? extends U> iteratee, @NotNull Config config) {
+        if (sequential(list, config)) {
+            return MoreCollections.isDistinct(list, iteratee::apply);
+        }
+        Set<U> seen = ConcurrentHashMap.newKeySet(list.size());
+        AtomicBoolean nullSeen = new AtomicBoolean();
+        boolean[] duplicate = new boolean[1];
+        return aggregate(list, config,
+            chunk -> {
+                for (T item : chunk) {
+                    // A racy read is enough to stop early, the result does not depend on it
+                    if (duplicate[0]) {
+                        return false;
+                    }
+                    U key = iteratee.apply(item);
+                    if (key == null ? !nullSeen.compareAndSet(false, true) : !seen.add(key)) {
+                        duplicate[0] = true;
+                        return false;
+                    }
+                }
+                return true;
+            },
+            (left, right) -> left && right);
+    }
+
+    /**
+     * @see MoreCollections#mergeSorted(Iterable, Comparator)
+     */
+    public static <T> List<T> mergeSorted(@NotNull List<? extends List<? extends T>> lists, @NotNull Comparator<? super T> comparator) {
+        return mergeSorted(lists, comparator, Config.of());
+    }
+
+    /**
+     * The key range is split into about four partitions per worker, at splitters sampled evenly from every list.
+     * Each list is cut at the splitters by binary search, and the partitions are merged concurrently with a loser tree,
+     * each one straight into its place in the result. Equal elements fall into the same partition, so the merge is stable
+     * like the sequential one.
+     *
+     * @param lists Each one sorted by comparator
+     * @return A fixed-size list
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> mergeSorted(
+        @NotNull List<? extends List<? extends T>> lists, @NotNull Comparator<? super T> comparator, @NotNull Config config) {
+        Preconditions.checkArgument(config.minChunkSize > 0, "minChunkSize %s <= 0", config.minChunkSize);
+        long total = 0;
+        for (List<? extends T> list : lists) {
+            total += list.size();
+        }
+        Preconditions.checkArgument(total <= Integer.MAX_VALUE - 8, "%s elements do not fit in a list", total);
+        if (total < config.threshold || config.pool.getParallelism() <= 1) {
+            return MoreCollections.mergeSorted(lists, comparator);
+        }
+        List<List<? extends T>> sources = new ArrayList<>(lists.size());
+        for (List<? extends T> list : lists) {
+            sources.add(list instanceof RandomAccess ? list : new ArrayList<>(list));
+        }
+        int partitions = (int) Math.max(1, Math.min(config.pool.getParallelism() * 4L, total / config.minChunkSize));
+        List<T> splitters = splitters(sources, partitions, comparator);
+
+        // cuts[i][p] is the index in list i where partition p starts, so it is also the number of elements of list i before partition p
+        int[][] cuts = new int[sources.size()][];
+        for (int i = 0; i < sources.size(); i++) {
+            List<? extends T> source = sources.get(i);
+            cuts[i] = new int[splitters.size() + 2];
+            for (int p = 0; p < splitters.size(); p++) {
+                cuts[i][p + 1] = lowerBound(source, splitters.get(p), cuts[i][p], comparator);
+            }
+            cuts[i][splitters.size() + 1] = source.size();
+        }
+        Object[] merged = new Object[(int) total];
+        config.pool.invoke(new MergeTask<>(sources, cuts, comparator, merged, 0, splitters.size() + 1));
+        return (List<T>) Arrays.asList(merged);
+    }
+
+    private static <T> List<T> splitters(List<List<? extends T>> sources, int partitions, Comparator<? super T> comparator) {
+        List<T> samples = new ArrayList<>();
+        for (List<? extends T> source : sources) {
+            for (int j = 1; j < partitions && !source.isEmpty(); j++) {
+                samples.add(source.get((int) ((long) source.size() * j / partitions)));
+            }
+        }
+        samples.sort(comparator);
+        List<T> splitters = new ArrayList<>(partitions - 1);
+        for (int p = 1; p < partitions && !samples.isEmpty(); p++) {
+            splitters.add(samples.get((int) ((long) samples.size() * p / partitions)));
+        }
+        return splitters;
+    }
+
+    /**
+     * @return The index of the first element of list, from index from, that is not less than key
+     */
+    private static <T> int lowerBound(List<? extends T> list, T key, int from, Comparator<? super T> comparator) {
+        int low = from;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(list.get(mid), key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static <U, V> Map<U, List<V>> mergeGroups(Map<U, List<V>> left, Map<U, List<V>> right) {
+        right.forEach((key, values) -> {
+            List<V> merged = left.putIfAbsent(key, values);
+            if (merged != null) {
+                merged.addAll(values);
+            }
+        });
+        return left;
+    }
+
+    /**
+     * On a pool of a single worker, e.g. the common pool on a single CPU, splitting only adds the merging
+     */
+    private static boolean sequential(List<?> list, Config config) {
+        return list.size() < config.threshold || config.pool.getParallelism() <= 1;
+    }
+
+    private static <T, R> R aggregate(
+        List<T> list, Config config, Function<List<T>, R> leaf, BinaryOperator<R> merge) {
+        Preconditions.checkArgument(config.minChunkSize > 0, "minChunkSize %s <= 0", config.minChunkSize);
+        if (sequential(list, config)) {
+            return leaf.apply(list);
+        }
+        if (!(list instanceof RandomAccess)) {
+            list = new ArrayList<>(list);
+        }
+        // About four chunks per worker, so that workers that finish early can steal
+        int chunkSize = Math.max(config.minChunkSize, list.size() / (config.pool.getParallelism() * 4));
+        return config.pool.invoke(new AggregateTask<>(list, 0, list.size(), chunkSize, leaf, merge));
+    }
+
+    private static class AggregateTask<T, R> extends RecursiveTask<R> {
+
+        private static final long serialVersionUID = 3178409531296613502L;
+
+        private final List<T> list;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Function<List<T>, R> leaf;
+        private final BinaryOperator<R> merge;
+
+        AggregateTask(List<T> list, int from, int to, int chunkSize, Function<List<T>, R> leaf, BinaryOperator<R> merge) {
+            this.list = list;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.leaf = leaf;
+            this.merge = merge;
+        }
+
+        @Override
+        protected R compute() {
+            if (to - from <= chunkSize) {
+                return leaf.apply(list.subList(from, to));
+            }
+            int mid = (from + to) >>> 1;
+            AggregateTask<T, R> right = new AggregateTask<>(list, mid, to, chunkSize, leaf, merge);
+            right.fork();
+            R left = new AggregateTask<>(list, from, mid, chunkSize, leaf, merge).compute();
+            return merge.apply(left, right.join());
+        }
+    }
+
+    private static class MergeTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = -6016542727306395725L;
+
+        private final List<List<? extends T>> sources;
+        private final int[][] cuts;
+        private final Comparator<? super T> comparator;
+        private final Object[] merged;
+        private final int from;
+        private final int to;
+
+        MergeTask(List<List<? extends T>> sources, int[][] cuts, Comparator<? super T> comparator, Object[] merged, int from, int to) {
+            this.sources = sources;
+            this.cuts = cuts;
+            this.comparator = comparator;
+            this.merged = merged;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new MergeTask<>(sources, cuts, comparator, merged, from, mid),
+                    new MergeTask<>(sources, cuts, comparator, merged, mid, to));
+                return;
+            }
+            int offset = 0;
+            List<Iterator<? extends T>> iterators = new ArrayList<>(sources.size());
+            for (int i = 0; i < sources.size(); i++) {
+                offset += cuts[i][from];
+                if (cuts[i][from] < cuts[i][from + 1]) {
+                    iterators.add(sources.get(i).subList(cuts[i][from], cuts[i][from + 1]).iterator());
+                }
+            }
+            for (Iterator<T> it = new LoserTrees.MergingIterator<>(iterators, comparator); it.hasNext(); ) {
+                merged[offset++] = it.next();
+            }
+        }
+    }
+}
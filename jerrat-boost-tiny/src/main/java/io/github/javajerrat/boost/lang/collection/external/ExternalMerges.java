@@ -0,0 +1,121 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import com.google.common.base.Preconditions;
+import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Merges of more sorted iterables than can be read at the same time, e.g. hundreds of sorted shards on disk that each hold a file open
+ * while they are iterated.
+ *
+ * At most {@link Config#fanIn} iterables are merged at once, with {@link MoreCollections#mergeSortedView}. While there are more,
+ * each group of fanIn consecutive ones is merged into a run in a temporary file, and the runs replace the group.
+ * The last level, at most fanIn iterables, is merged lazily by the returned {@link SortedRuns}.
+ * The groups are consecutive, so the merge is stable like {@link MoreCollections#mergeSortedView}.
+ */
+public class ExternalMerges {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        /**
+         * The directory of the temporary files, the system one if null
+         */
+        @Nullable
+        File tempDirectory;
+
+        /**
+         * The largest number of iterables, or runs, read at the same time
+         */
+        int fanIn = 64;
+
+        /**
+         * The buffer size in bytes of each temporary file that is written or read
+         */
+        int bufferSize = 1 << 16;
+    }
+
+    public ExternalMerges() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @param iterables Each one sorted by comparator
+     * @param serializer Writes the elements to the temporary files and reads them back
+     */
+    public static <T> SortedRuns<T> mergeSorted(
+        @NotNull Iterable<? extends Iterable<? extends T>> iterables, @NotNull Comparator<? super T> comparator,
+        @NotNull Serializer<T> serializer, @NotNull Config config) {
+        List<Iterable<? extends T>> level = new ArrayList<>();
+        iterables.forEach(level::add);
+        return mergeRuns(level, comparator, serializer, config);
+    }
+
+    /**
+     * Merge groups of the runs until there are at most fanIn of them. The runs in temporary files are owned, and deleted once merged.
+     */
+    static <T> SortedRuns<T> mergeRuns(
+        List<Iterable<? extends T>> runs, Comparator<? super T> comparator, Serializer<T> serializer, Config config) {
+        Preconditions.checkArgument(config.fanIn >= 2, "fanIn %s < 2", config.fanIn);
+        Preconditions.checkArgument(config.bufferSize > 0, "bufferSize %s <= 0", config.bufferSize);
+        List<Iterable<? extends T>> level = runs;
+        List<Iterable<? extends T>> next = new ArrayList<>();
+        try {
+            while (level.size() > config.fanIn) {
+                next = new ArrayList<>();
+                for (int from = 0; from < level.size(); from += config.fanIn) {
+                    List<Iterable<? extends T>> group = level.subList(from, Math.min(from + config.fanIn, level.size()));
+                    if (group.size() == 1) {
+                        next.add(group.get(0));
+                        continue;
+                    }
+                    next.add(RunFile.write(MoreCollections.mergeSortedView(group, comparator).iterator(),
+                        serializer, config.tempDirectory, config.bufferSize));
+                    delete(group);
+                }
+                level = next;
+            }
+        } catch (RuntimeException e) {
+            delete(level);
+            delete(next);
+            throw e;
+        }
+        return new SortedRuns<>(level, comparator);
+    }
+
+    static void delete(Iterable<? extends Iterable<?>> runs) {
+        for (Iterable<?> run : runs) {
+            if (run instanceof RunFile) {
+                ((RunFile<?>) run).delete();
+            }
+        }
+    }
+}
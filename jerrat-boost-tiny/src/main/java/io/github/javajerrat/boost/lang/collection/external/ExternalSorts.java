@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import com.google.common.base.Preconditions;
+import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Sort and groupBy for inputs larger than the heap, e.g. the lines of a file of tens of gigabytes.
+ *
+ * The input is read once, in runs of at most {@link Config#runSize} elements. Each run is sorted in memory and spilled to a temporary file,
+ * except the last one, which stays in memory. The runs are then merged as by {@link ExternalMerges}, and the result is merged lazily
+ * by the returned {@link SortedRuns}, which must be closed to delete the files. An input that fits in one run is not spilled at all.
+ * The runs are sorted with {@link List#sort} and merged stably, so the sort is stable.
+ *
+ * The memory used is about runSize elements, plus one buffer of {@link Config#bufferSize} bytes per run merged at the same time.
+ */
+public class ExternalSorts {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        /**
+         * The largest number of elements held in memory to be sorted, the memory budget in elements
+         */
+        int runSize = 1 << 20;
+
+        /**
+         * @see ExternalMerges.Config#tempDirectory
+         */
+        @Nullable
+        File tempDirectory;
+
+        /**
+         * @see ExternalMerges.Config#fanIn
+         */
+        int fanIn = 64;
+
+        /**
+         * @see ExternalMerges.Config#bufferSize
+         */
+        int bufferSize = 1 << 16;
+
+        ExternalMerges.Config mergeConfig() {
+            return ExternalMerges.Config.of().tempDirectory(tempDirectory).fanIn(fanIn).bufferSize(bufferSize);
+        }
+    }
+
+    public ExternalSorts() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Spills with {@link Serializers#jackson(Class)}
+     */
+    public static <T> SortedRuns<T> sort(@NotNull Iterable<? extends T> input, @NotNull Comparator<? super T> comparator, @NotNull Class<T> type) {
+        return sort(input, comparator, Serializers.jackson(type), Config.of());
+    }
+
+    public static <T> SortedRuns<T> sort(
+        @NotNull Iterable<? extends T> input, @NotNull Comparator<? super T> comparator, @NotNull Serializer<T> serializer,
+        @NotNull Config config) {
+        Preconditions.checkArgument(config.runSize > 0, "runSize %s <= 0", config.runSize);
+        ExternalMerges.Config mergeConfig = config.mergeConfig();
+        List<Iterable<? extends T>> runs = new ArrayList<>();
+        List<T> run = new ArrayList<>(Math.min(config.runSize, 1 << 16));
+        try {
+            for (T element : input) {
+                run.add(element);
+                if (run.size() == config.runSize) {
+                    run.sort(comparator);
+                    runs.add(RunFile.write(run.iterator(), serializer, config.tempDirectory, config.bufferSize));
+                    run.clear();
+                }
+            }
+            if (!run.isEmpty() || runs.isEmpty()) {
+                run.sort(comparator);
+                runs.add(run);
+            }
+        } catch (RuntimeException e) {
+            ExternalMerges.delete(runs);
+            throw e;
+        }
+        return ExternalMerges.mergeRuns(runs, comparator, serializer, mergeConfig);
+    }
+
+    /**
+     * Spills with {@link Serializers#jackson(Class)}
+     */
+    public static <T, K> SortedGroups<K, T> groupBy(
+        @NotNull Iterable<? extends T> input, @NotNull Function<? super T, ? extends K> iteratee, @NotNull Comparator<? super K> keyComparator,
+        @NotNull Class<T> type) {
+        return groupBy(input, iteratee, keyComparator, Serializers.jackson(type), Config.of());
+    }
+
+    /**
+     * Unlike {@link MoreCollections#groupBy(Iterable, Function)}, the groups come in key order, which is needed to find them without
+     * holding them all. Only one group at a time is held in memory.
+     *
+     * @param keyComparator The keys that compare equal make one group
+     */
+    public static <T, K> SortedGroups<K, T> groupBy(
+        @NotNull Iterable<? extends T> input, @NotNull Function<? super T, ? extends K> iteratee, @NotNull Comparator<? super K> keyComparator,
+        @NotNull Serializer<T> serializer, @NotNull Config config) {
+        SortedRuns<T> sorted = sort(input, Comparator.comparing(iteratee, keyComparator), serializer, config);
+        return new SortedGroups<>(sorted, iteratee, keyComparator);
+    }
+}
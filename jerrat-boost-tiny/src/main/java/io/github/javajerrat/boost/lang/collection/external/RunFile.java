@@ -0,0 +1,142 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import com.google.common.collect.AbstractIterator;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A sorted run spilled to a temporary file. Every iterator opens the file and closes it once it has read the last element.
+ * The streams of the iterators that stopped before, e.g. after {@link io.github.javajerrat.boost.lang.collection.iterable.FIterable#first()}
+ * or an exception, are closed by {@link #delete()}, which would otherwise keep the disk space of the file until they are finalized.
+ */
+final class RunFile<T> implements Iterable<T> {
+
+    private final File file;
+    private final long count;
+    private final Serializer<T> serializer;
+    private final int bufferSize;
+    private final Set<InputStream> openStreams = ConcurrentHashMap.newKeySet();
+
+    private RunFile(File file, long count, Serializer<T> serializer, int bufferSize) {
+        this.file = file;
+        this.count = count;
+        this.serializer = serializer;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Write the elements to a new temporary file in directory, the system one if null
+     */
+    static <T> RunFile<T> write(Iterator<? extends T> elements, Serializer<T> serializer, File directory, int bufferSize) {
+        File file;
+        try {
+            file = File.createTempFile("jerrat-run-", ".tmp", directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long count = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), bufferSize))) {
+            while (elements.hasNext()) {
+                serializer.write(out, elements.next());
+                count++;
+            }
+        } catch (IOException e) {
+            file.delete();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            file.delete();
+            throw e;
+        }
+        return new RunFile<>(file, count, serializer, bufferSize);
+    }
+
+    long count() {
+        return count;
+    }
+
+    int openStreams() {
+        return openStreams.size();
+    }
+
+    /**
+     * Close the streams that are still open, then delete the file
+     */
+    void delete() {
+        for (InputStream in : openStreams) {
+            closeQuietly(in);
+        }
+        file.delete();
+    }
+
+    private void closeQuietly(InputStream in) {
+        openStreams.remove(in);
+        try {
+            in.close();
+        } catch (IOException e) {
+            // Only read, there is nothing to lose
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<T> iterator() {
+        return new AbstractIterator<T>() {
+
+            private DataInputStream in;
+            private long remaining = count;
+
+            @Override
+            protected T computeNext() {
+                try {
+                    if (remaining == 0) {
+                        if (in != null) {
+                            closeQuietly(in);
+                        }
+                        return endOfData();
+                    }
+                    if (in == null) {
+                        in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), bufferSize));
+                        openStreams.add(in);
+                    }
+                    remaining--;
+                    return serializer.read(in);
+                } catch (IOException e) {
+                    if (in != null) {
+                        closeQuietly(in);
+                    }
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.javajerrat.boost.codec.json.Jacksons;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Common {@link Serializer}s. A variable-length element is written as its length in bytes followed by the bytes.
+ * {@link #jackson(Class)} is the default of the external algorithms.
+ */
+public class Serializers {
+
+    private static final Serializer<Long> LONGS = new Serializer<Long>() {
+        @Override
+        public void write(DataOutput out, Long value) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    private static final Serializer<Integer> INTS = new Serializer<Integer>() {
+        @Override
+        public void write(DataOutput out, Integer value) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private static final Serializer<String> STRINGS = new Serializer<String>() {
+        @Override
+        public void write(DataOutput out, String value) throws IOException {
+            writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return new String(readBytes(in), StandardCharsets.UTF_8);
+        }
+    };
+
+    public Serializers() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static Serializer<Long> longs() {
+        return LONGS;
+    }
+
+    public static Serializer<Integer> ints() {
+        return INTS;
+    }
+
+    /**
+     * UTF-8, without the 64KB limit of {@link DataOutput#writeUTF}
+     */
+    public static Serializer<String> strings() {
+        return STRINGS;
+    }
+
+    /**
+     * Java serialization, one object stream per element. It works for any {@link Serializable} but is slow and verbose,
+     * prefer a dedicated serializer for large spills.
+     */
+    public static <T extends Serializable> Serializer<T> javaSerialization() {
+        return new Serializer<T>() {
+            @Override
+            public void write(DataOutput out, T value) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                    objects.writeObject(value);
+                }
+                writeBytes(out, bytes.toByteArray());
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T read(DataInput in) throws IOException {
+                try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    return (T) objects.readObject();
+                } catch (ClassNotFoundException e) {
+                    InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+                    exception.initCause(e);
+                    throw exception;
+                }
+            }
+        };
+    }
+
+    /**
+     * JSON with the configuration of {@link Jacksons#jacksonObjectMapper()}, but not indented. It needs the element class to be
+     * deserializable by Jackson, e.g. to have a no-arg constructor.
+     */
+    public static <T> Serializer<T> jackson(@NotNull Class<T> type) {
+        return jackson(JacksonHolder.MAPPER, JacksonHolder.MAPPER.constructType(type));
+    }
+
+    /**
+     * {@link #jackson(Class)} for generic types, e.g. {@code new TypeReference<Map<String, Long>>() {}}
+     */
+    public static <T> Serializer<T> jackson(@NotNull TypeReference<T> type) {
+        return jackson(JacksonHolder.MAPPER, JacksonHolder.MAPPER.getTypeFactory().constructType(type));
+    }
+
+    public static <T> Serializer<T> jackson(@NotNull ObjectMapper mapper, @NotNull JavaType type) {
+        return new Serializer<T>() {
+            @Override
+            public void write(DataOutput out, T value) throws IOException {
+                writeBytes(out, mapper.writeValueAsBytes(value));
+            }
+
+            @Override
+            public T read(DataInput in) throws IOException {
+                return mapper.readValue(readBytes(in), type);
+            }
+        };
+    }
+
+    /**
+     * Jackson is loaded by the first Jackson serializer only
+     */
+    private static class JacksonHolder {
+
+        static final ObjectMapper MAPPER = Jacksons.jacksonObjectMapper(false, false);
+    }
+
+    static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import io.github.javajerrat.boost.lang.collection.iterable.FIterable;
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The result of {@link ExternalSorts#groupBy}: the groups of {@link SortedRuns} sorted by key. Close it to delete the temporary files.
+ */
+public final class SortedGroups<K, T> implements UncheckedAutoCloseable {
+
+    private final SortedRuns<T> sorted;
+    private final FIterable<Map.Entry<K, List<T>>> groups;
+
+    SortedGroups(SortedRuns<T> sorted, Function<? super T, ? extends K> iteratee, Comparator<? super K> keyComparator) {
+        this.sorted = sorted;
+        this.groups = FIterable.from(() -> new AbstractIterator<Map.Entry<K, List<T>>>() {
+
+            private final PeekingIterator<T> elements = Iterators.peekingIterator(sorted.elements().iterator());
+
+            @Override
+            protected Map.Entry<K, List<T>> computeNext() {
+                if (!elements.hasNext()) {
+                    return endOfData();
+                }
+                T first = elements.next();
+                K key = iteratee.apply(first);
+                List<T> group = new ArrayList<>();
+                group.add(first);
+                while (elements.hasNext() && keyComparator.compare(key, iteratee.apply(elements.peek())) == 0) {
+                    group.add(elements.next());
+                }
+                return new SimpleImmutableEntry<>(key, group);
+            }
+        });
+    }
+
+    /**
+     * @return The groups in key order, each one with the key of its first element and its elements in input order.
+     * They are read from the runs again on every traversal, and cannot be read after {@link #close()}.
+     */
+    public FIterable<Map.Entry<K, List<T>>> groups() {
+        return groups;
+    }
+
+    int openStreams() {
+        return sorted.openStreams();
+    }
+
+    /**
+     * Close the temporary files that are still open and delete them, see {@link SortedRuns#close()}
+     */
+    @Override
+    public void close() {
+        sorted.close();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import io.github.javajerrat.boost.lang.collection.iterable.FIterable;
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The result of an external algorithm: a few sorted runs, most of them in temporary files, that are merged lazily on each traversal
+ * of {@link #elements()}. The temporary files are deleted by {@link #close()}, which also closes the files left open by traversals that
+ * stopped early, e.g. {@code elements().first()}, so use it in a try-with-resources block:
+ *
+ * <pre>{@code
+ * try (SortedRuns<Long> runs = ExternalMerges.mergeSorted(shards, Long::compare, Serializers.longs(), ExternalMerges.Config.of())) {
+ *     runs.elements().forEach(...);
+ * }
+ * }</pre>
+ */
+public final class SortedRuns<T> implements UncheckedAutoCloseable {
+
+    private final List<Iterable<? extends T>> runs;
+    private final FIterable<T> elements;
+
+    SortedRuns(List<Iterable<? extends T>> runs, Comparator<? super T> comparator) {
+        this.runs = new ArrayList<>(runs);
+        this.elements = MoreCollections.mergeSortedView(this.runs, comparator);
+    }
+
+    /**
+     * @return The elements, read from the runs again on every traversal. It cannot be read after {@link #close()}.
+     */
+    public FIterable<T> elements() {
+        return elements;
+    }
+
+    /**
+     * @return The number of runs merged by each traversal of {@link #elements()}
+     */
+    public int runCount() {
+        return runs.size();
+    }
+
+    /**
+     * @return The number of temporary files open for reading
+     */
+    int openStreams() {
+        int open = 0;
+        for (Iterable<? extends T> run : runs) {
+            if (run instanceof RunFile) {
+                open += ((RunFile<?>) run).openStreams();
+            }
+        }
+        return open;
+    }
+
+    /**
+     * Close the temporary files that are still open and delete them, it may be called more than once
+     */
+    @Override
+    public void close() {
+        ExternalMerges.delete(runs);
+    }
+}
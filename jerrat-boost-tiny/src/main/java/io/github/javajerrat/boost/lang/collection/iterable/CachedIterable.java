@@ -0,0 +1,128 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.iterable;
+
+import com.google.common.collect.Iterables;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The buffer of {@link FIterable#cached()}. The upstream is read once, only as far as the iterators go, and its elements
+ * are appended to chunks that are never copied: chunk k holds {@code 16 << k} elements.
+ * The buffered elements are read without locking, a reader past them takes the lock and reads the next upstream element.
+ */
+final class CachedIterable<E> implements Iterable<E> {
+
+    private static final int FIRST_CHUNK_SHIFT = 4;
+    private static final int CHUNKS = 26;
+    static final int MAX_SIZE = (1 << FIRST_CHUNK_SHIFT) * ((1 << CHUNKS) - 1);
+
+    private final Object[][] chunks = new Object[CHUNKS][];
+
+    /**
+     * Written after the element, so a reader that sees the size sees the elements before it
+     */
+    private volatile int size;
+
+    private volatile boolean exhausted;
+
+    /**
+     * Released once exhausted, so that the lambdas of the pipeline can be collected
+     */
+    private Iterable<? extends E> upstream;
+    private Iterator<? extends E> source;
+
+    CachedIterable(@NotNull Iterable<? extends E> upstream) {
+        this.upstream = upstream;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size || fill(index);
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return Iterables.toString(this);
+    }
+
+    /**
+     * @return true if the element at index is buffered, reading the upstream as far as it if needed
+     */
+    private synchronized boolean fill(int index) {
+        while (index >= size && !exhausted) {
+            if (source == null) {
+                source = upstream.iterator();
+            }
+            if (source.hasNext()) {
+                append(source.next());
+            } else {
+                exhausted = true;
+                source = null;
+                upstream = null;
+            }
+        }
+        return index < size;
+    }
+
+    private void append(E e) {
+        int index = size;
+        if (index == MAX_SIZE) {
+            throw new IllegalStateException("cached() holds at most " + MAX_SIZE + " elements");
+        }
+        int chunk = chunkOf(index);
+        if (chunks[chunk] == null) {
+            chunks[chunk] = new Object[1 << (FIRST_CHUNK_SHIFT + chunk)];
+        }
+        chunks[chunk][index - chunkStart(chunk)] = e;
+        size = index + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E get(int index) {
+        int chunk = chunkOf(index);
+        return (E) chunks[chunk][index - chunkStart(chunk)];
+    }
+
+    private static int chunkOf(int index) {
+        return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_CHUNK_SHIFT) + 1);
+    }
+
+    private static int chunkStart(int chunk) {
+        return ((1 << chunk) - 1) << FIRST_CHUNK_SHIFT;
+    }
+}
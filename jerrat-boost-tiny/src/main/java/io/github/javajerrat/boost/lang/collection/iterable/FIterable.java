@@ -14,18 +14,30 @@
 
 package io.github.javajerrat.boost.lang.collection.iterable;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Streams;
 import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import javax.annotation.Nullable;
 import lombok.NonNull;
 import org.jetbrains.annotations.NotNull;
@@ -41,27 +53,87 @@ import org.jetbrains.annotations.NotNull;
  *
  * If you need to do a complex one-time operation, you need {@link FIterable#toList()} to trigger the lazy algorithm to put the data into the list for subsequent operations.
  * If the operation can be done in one pass, either traverse the iterable object directly or use complex stream operations by using {@link FIterable#stream()}.
-
+ *
+ * The intermediate operations ({@link #filter}, {@link #transform}, {@link #limit}, {@link #takeWhile}, {@link #distinct},
+ * {@link #mapToInt} and {@link #mapToLong}) are fused: each one wraps the consumer of the next one, and a terminal operation,
+ * e.g. {@link #forEach(Consumer)} or {@link #toList()}, pushes the elements of the source through all of them in a single loop.
+ * {@link #limit}, {@link #takeWhile} and {@link #first()} stop the loop early, so they also work on infinite sources.
+ * {@link #iterator()} pulls the elements through the same stages one source element at a time.
+ * Every terminal operation, and every iterator, runs the pipeline again from the source, unless it is {@link #cached()}.
+ *
+ * {@link #spliterator()} splits the spliterator of the source, and each part runs its own copy of the stages, so an
+ * {@code ArrayList} or a {@link io.github.javajerrat.boost.lang.collection.lazy.Range} source splits evenly in
+ * {@link #parallelStream()} and {@link #parallelForEach}. It stays {@link Spliterator#SIZED} through {@link #transform}.
+ * {@link #limit}, {@link #takeWhile} and {@link #distinct} keep state across the elements, so after them the pipeline runs sequentially.
  */
 public class FIterable<E> implements Iterable<E> {
 
-    private final Iterable<E> iterableDelegate;
+    /**
+     * Set by a stage or a terminal operation that needs no more elements, the source loop checks it before every element
+     */
+    static final class Cancellation {
+
+        boolean requested;
+    }
+
+    /**
+     * The fused stages between the source and this iterable
+     */
+    @FunctionalInterface
+    interface Stage<E> {
+
+        /**
+         * Called once per run, so stateful stages keep their state in the returned consumer
+         *
+         * @return The consumer to push the source elements into, it pushes the results into downstream
+         */
+        Consumer<Object> wrap(Consumer<? super E> downstream, Cancellation cancellation);
+    }
+
+    /**
+     * An intermediate operation, from the elements of one iterable to those of the next
+     */
+    @FunctionalInterface
+    interface Op<I, O> {
+
+        Consumer<I> wrap(Consumer<? super O> downstream, Cancellation cancellation);
+    }
+
+    private final Iterable<?> iterableDelegate;
+
+    /**
+     * null if the elements are those of the source
+     */
+    private final Stage<E> stage;
+
+    /**
+     * true if every stage pushes exactly one element per source element, so that the size is the one of the source
+     */
+    private final boolean sizePreserving;
+
+    /**
+     * true if no stage keeps state across the elements, so that the parts of a split source can run their own stages
+     */
+    private final boolean splittable;
 
     /** Constructor for use by subclasses. */
     protected FIterable() {
-        this.iterableDelegate = Collections.emptyList();
+        this(Collections.emptyList(), null, true, true);
     }
 
     FIterable(@NotNull @NonNull Iterable<E> iterable) {
-        this.iterableDelegate = iterable;
+        this(iterable, null, true, true);
     }
 
-    public static <E> FIterable<E> of() {
-        return new FIterable<>();
+    FIterable(@NotNull Iterable<?> source, @Nullable Stage<E> stage, boolean sizePreserving, boolean splittable) {
+        this.iterableDelegate = source;
+        this.stage = stage;
+        this.sizePreserving = sizePreserving;
+        this.splittable = splittable;
     }
 
-    private Iterable<E> getDelegate() {
-        return iterableDelegate;
+    public static <E> FIterable<E> of() {
+        return new FIterable<>();
     }
 
     public static <E> FIterable<E> from(final Iterable<E> iterable) {
@@ -70,56 +142,418 @@ public class FIterable<E> implements Iterable<E> {
 
     @Override
     public String toString() {
-        return iterableDelegate.toString();
+        return stage == null ? iterableDelegate.toString() : Iterables.toString(this);
     }
 
     public final Stream<E> stream() {
-        return Streams.stream(getDelegate());
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public final Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
     }
 
     public final boolean isEmpty() {
-        return !getDelegate().iterator().hasNext();
+        if (stage == null) {
+            return !iterableDelegate.iterator().hasNext();
+        }
+        boolean[] empty = {true};
+        run((e, cancellation) -> {
+            empty[0] = false;
+            cancellation.requested = true;
+        });
+        return empty[0];
     }
 
     public final List<E> toList() {
-        return MoreCollections.arrayListOf(getDelegate());
+        if (stage == null) {
+            return MoreCollections.arrayListOf(this);
+        }
+        List<E> list = new ArrayList<>();
+        forEach(list::add);
+        return list;
     }
 
     public final Set<E> toSet() {
-        return MoreCollections.linkedHashSetOf(getDelegate());
+        Set<E> set = new LinkedHashSet<>();
+        forEach(set::add);
+        return set;
     }
 
     public final E[] toArray(Class<E> type) {
-        return Iterables.toArray(getDelegate(), type);
+        return Iterables.toArray(toList(), type);
     }
 
     public final void copyInto(Collection<? super E> collection) {
-        Iterables.addAll(collection, getDelegate());
+        forEach(collection::add);
     }
 
     public final FIterable<E> filter(Predicate<? super E> predicate) {
-        return from(Iterables.filter(getDelegate(), predicate::test));
+        return then((downstream, cancellation) -> e -> {
+            if (predicate.test(e)) {
+                downstream.accept(e);
+            }
+        }, false, true);
     }
 
     public final <T> FIterable<T> transform(Function<? super E, T> function) {
-        return from(Iterables.transform(getDelegate(), function::apply));
+        return then((downstream, cancellation) -> e -> downstream.accept(function.apply(e)), true, true);
+    }
+
+    /**
+     * @return The first maxSize elements. The source is not read further once they are pushed.
+     */
+    public final FIterable<E> limit(long maxSize) {
+        Preconditions.checkArgument(maxSize >= 0, "maxSize %s < 0", maxSize);
+        return then((downstream, cancellation) -> {
+            if (maxSize == 0) {
+                cancellation.requested = true;
+            }
+            long[] count = {0};
+            return e -> {
+                downstream.accept(e);
+                if (++count[0] >= maxSize) {
+                    cancellation.requested = true;
+                }
+            };
+        }, false, false);
+    }
+
+    /**
+     * @return The elements before the first one that does not match the predicate
+     */
+    public final FIterable<E> takeWhile(Predicate<? super E> predicate) {
+        return then((downstream, cancellation) -> e -> {
+            if (predicate.test(e)) {
+                downstream.accept(e);
+            } else {
+                cancellation.requested = true;
+            }
+        }, false, false);
+    }
+
+    /**
+     * @return The elements without duplicates, in their first occurrence order. Each run keeps a set of the elements seen.
+     */
+    public final FIterable<E> distinct() {
+        return then((downstream, cancellation) -> {
+            Set<E> seen = new HashSet<>();
+            return e -> {
+                if (seen.add(e)) {
+                    downstream.accept(e);
+                }
+            };
+        }, false, false);
+    }
+
+    /**
+     * The lambdas of a lazy pipeline run again on every traversal. This returns an iterable that runs them at most once:
+     * the first traversal reads this pipeline as far as it goes and buffers the elements, later ones replay the buffer and
+     * continue from where the pipeline stopped. It may be read from several threads at the same time.
+     *
+     * @return The elements of this iterable, cached. Holds at most about a billion of them.
+     */
+    public final FIterable<E> cached() {
+        if (stage == null && iterableDelegate instanceof CachedIterable) {
+            return this;
+        }
+        return new FIterable<>(new CachedIterable<>(this));
+    }
+
+    public final FIntIterable mapToInt(ToIntFunction<? super E> function) {
+        return new FIntIterable(iterableDelegate, (downstream, cancellation) ->
+            wrap(e -> downstream.accept(function.applyAsInt(e)), cancellation), splittable);
+    }
+
+    public final FLongIterable mapToLong(ToLongFunction<? super E> function) {
+        return new FLongIterable(iterableDelegate, (downstream, cancellation) ->
+            wrap(e -> downstream.accept(function.applyAsLong(e)), cancellation), splittable);
     }
 
     public final E reduce(E identity, BinaryOperator<E> accumulator) {
-        return stream().reduce(identity, accumulator);
+        Object[] result = {identity};
+        forEach(e -> result[0] = accumulator.apply(cast(result[0]), e));
+        return cast(result[0]);
+    }
+
+    public final long count() {
+        long[] count = {0};
+        forEach(e -> count[0]++);
+        return count[0];
+    }
+
+    public final boolean anyMatch(Predicate<? super E> predicate) {
+        boolean[] matched = {false};
+        run((e, cancellation) -> {
+            if (predicate.test(e)) {
+                matched[0] = true;
+                cancellation.requested = true;
+            }
+        });
+        return matched[0];
     }
 
     public final @Nullable E first() {
-        return Iterables.getFirst(getDelegate(), null);
+        if (stage == null) {
+            return Iterables.getFirst(this, null);
+        }
+        Object[] first = {null};
+        run((e, cancellation) -> {
+            first[0] = e;
+            cancellation.requested = true;
+        });
+        return cast(first[0]);
     }
 
     public final @Nullable E last() {
-        return MoreCollections.last(getDelegate());
+        if (stage == null) {
+            return MoreCollections.last(this);
+        }
+        Object[] last = {null};
+        forEach(e -> last[0] = e);
+        return cast(last[0]);
+    }
+
+    /**
+     * Push all the elements through the stages into the action, in a single loop
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (stage == null) {
+            iterator().forEachRemaining(action);
+            return;
+        }
+        Cancellation cancellation = new Cancellation();
+        push(iterableDelegate, wrap(action, cancellation), cancellation);
+    }
+
+    /**
+     * Push all the elements through the stages into the action, from the threads of the pool.
+     * The source is split into about four parts per thread, and each part runs its own stages.
+     * It runs in the calling thread when the pipeline is not splittable, see {@link #spliterator()}, or the pool has a single thread.
+     *
+     * @param action Called concurrently, in no particular order
+     */
+    public final void parallelForEach(@NotNull ForkJoinPool pool, @NotNull Consumer<? super E> action) {
+        if (!splittable || pool.getParallelism() <= 1) {
+            forEach(action);
+            return;
+        }
+        Spliterator<E> spliterator = spliterator();
+        long threshold = Math.max(1, spliterator.estimateSize() / (pool.getParallelism() * 4L));
+        pool.invoke(new ForEachTask<>(spliterator, action, threshold));
+    }
+
+    /**
+     * @return The spliterator of the source if there is no stage. Otherwise, one that splits the spliterator of the source
+     * and pushes each part through its own stages. It is {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}
+     * if the source one is and the stages are all {@link #transform}, and does not split after {@link #limit},
+     * {@link #takeWhile} or {@link #distinct}.
+     */
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<E> spliterator() {
+        if (stage == null) {
+            return (Spliterator<E>) iterableDelegate.spliterator();
+        }
+        return new PipelineSpliterator(iterableDelegate.spliterator());
     }
 
     @NotNull
     @Override
+    @SuppressWarnings("unchecked")
     public Iterator<E> iterator() {
-        return getDelegate().iterator();
+        if (stage == null) {
+            return (Iterator<E>) iterableDelegate.iterator();
+        }
+        return new PullIterator();
+    }
+
+    /**
+     * The consumer of a terminal operation that may stop the run
+     */
+    @FunctionalInterface
+    interface ShortCircuit<E> {
+
+        void accept(E e, Cancellation cancellation);
+    }
+
+    private void run(ShortCircuit<? super E> action) {
+        Cancellation cancellation = new Cancellation();
+        push(iterableDelegate, wrap(e -> action.accept(e, cancellation), cancellation), cancellation);
+    }
+
+    private <T> FIterable<T> then(Op<E, T> next, boolean sizePreserving, boolean splittable) {
+        return new FIterable<>(iterableDelegate, (downstream, cancellation) -> wrap(next.wrap(downstream, cancellation), cancellation),
+            this.sizePreserving && sizePreserving, this.splittable && splittable);
+    }
+
+    /**
+     * @return The consumer of the source elements that pushes the elements of this iterable into downstream
+     */
+    @SuppressWarnings("unchecked")
+    Consumer<Object> wrap(Consumer<? super E> downstream, Cancellation cancellation) {
+        return stage == null ? (Consumer<Object>) downstream : stage.wrap(downstream, cancellation);
+    }
+
+    /**
+     * The lists whose size and get are those of a plain array, so that they can be read by index. Other random access lists may not:
+     * the size of a {@link io.github.javajerrat.boost.lang.collection.lazy.Range} is capped, and a {@link java.util.concurrent.CopyOnWriteArrayList}
+     * is read from a snapshot by its iterator.
+     */
+    private static final Class<?> ARRAYS_AS_LIST = Arrays.asList().getClass();
+
+    /**
+     * The loop of a run: push the source elements into head until the source ends or a stage cancels
+     */
+    static void push(Iterable<?> source, Consumer<Object> head, Cancellation cancellation) {
+        if (cancellation.requested) {
+            return;
+        }
+        if (source.getClass() == ArrayList.class || source.getClass() == ARRAYS_AS_LIST) {
+            List<?> list = (List<?>) source;
+            for (int i = 0, size = list.size(); i < size && !cancellation.requested; i++) {
+                head.accept(list.get(i));
+            }
+        } else {
+            for (Iterator<?> it = source.iterator(); !cancellation.requested && it.hasNext(); ) {
+                head.accept(it.next());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E cast(Object o) {
+        return (E) o;
+    }
+
+    /**
+     * Pulls one source element at a time through the stages. Every stage pushes at most one element per source element,
+     * so one slot is enough to hold it.
+     */
+    private class PullIterator implements Iterator<E> {
+
+        private final Iterator<?> source = iterableDelegate.iterator();
+        private final Cancellation cancellation = new Cancellation();
+        private final Consumer<Object> head = wrap(e -> {
+            next = e;
+            ready = true;
+        }, cancellation);
+
+        private E next;
+        private boolean ready;
+
+        @Override
+        public boolean hasNext() {
+            while (!ready && !cancellation.requested && source.hasNext()) {
+                head.accept(source.next());
+            }
+            return ready;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E e = next;
+            next = null;
+            ready = false;
+            return e;
+        }
+    }
+
+    /**
+     * Pushes one part of the source through the stages. The stages of a splittable pipeline push at most one element
+     * per source element and never cancel, so a part is pushed with the bulk traversal of its source spliterator.
+     */
+    private class PipelineSpliterator implements Spliterator<E> {
+
+        private Consumer<? super E> action;
+        private boolean pushed;
+
+        private final Spliterator<?> source;
+        private final Cancellation cancellation = new Cancellation();
+        private final Consumer<Object> head = wrap(e -> {
+            action.accept(e);
+            pushed = true;
+        }, cancellation);
+
+        PipelineSpliterator(Spliterator<?> source) {
+            this.source = source;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            this.action = action;
+            pushed = false;
+            while (!pushed && !cancellation.requested && source.tryAdvance(head)) {
+                // pushes until a source element passes all the stages
+            }
+            return pushed;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            this.action = action;
+            if (splittable) {
+                source.forEachRemaining(head);
+            } else {
+                while (!cancellation.requested && source.tryAdvance(head)) {
+                    // the stages may cancel after any element
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (!splittable) {
+                return null;
+            }
+            Spliterator<?> prefix = source.trySplit();
+            return prefix == null ? null : new PipelineSpliterator(prefix);
+        }
+
+        @Override
+        public long estimateSize() {
+            return cancellation.requested ? 0 : source.estimateSize();
+        }
+
+        @Override
+        public int characteristics() {
+            int kept = sizePreserving ? ORDERED | SIZED | SUBSIZED : ORDERED;
+            return source.characteristics() & kept;
+        }
+    }
+
+    private static class ForEachTask<E> extends RecursiveAction {
+
+        private static final long serialVersionUID = -2960914853240391648L;
+
+        private final Spliterator<E> spliterator;
+        private final Consumer<? super E> action;
+        private final long threshold;
+
+        ForEachTask(Spliterator<E> spliterator, Consumer<? super E> action, long threshold) {
+            this.spliterator = spliterator;
+            this.action = action;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForEachTask<E>> forked = new ArrayList<>();
+            Spliterator<E> prefix;
+            while (spliterator.estimateSize() > threshold && (prefix = spliterator.trySplit()) != null) {
+                ForEachTask<E> task = new ForEachTask<>(prefix, action, threshold);
+                task.fork();
+                forked.add(task);
+            }
+            spliterator.forEachRemaining(action);
+            for (ForEachTask<E> task : forked) {
+                task.join();
+            }
+        }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.iterable;
+
+import com.google.common.base.Preconditions;
+import io.github.javajerrat.boost.lang.collection.iterable.FIterable.Cancellation;
+import io.github.javajerrat.boost.lang.collection.primitive.LongArrayList;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The {@code long} elements of a {@link FIterable} pipeline, see {@link FIterable#mapToLong}. The stages are fused like those of
+ * {@link FIterable} and pass the elements unboxed. It is not an {@link Iterable}, the elements are read by the terminal operations.
+ */
+public final class FLongIterable {
+
+    @FunctionalInterface
+    interface Stage {
+
+        Consumer<Object> wrap(LongConsumer downstream, Cancellation cancellation);
+    }
+
+    /**
+     * A stage after the first one, from long to long
+     */
+    @FunctionalInterface
+    interface Op {
+
+        LongConsumer wrap(LongConsumer downstream, Cancellation cancellation);
+    }
+
+    private final Iterable<?> source;
+    private final Stage stage;
+
+    /**
+     * false after a stage that keeps state across the elements, see {@link FIterable#spliterator()}
+     */
+    private final boolean splittable;
+
+    FLongIterable(@NotNull Iterable<?> source, @NotNull Stage stage, boolean splittable) {
+        this.source = source;
+        this.stage = stage;
+        this.splittable = splittable;
+    }
+
+    public FLongIterable filter(LongPredicate predicate) {
+        return then((downstream, cancellation) -> value -> {
+            if (predicate.test(value)) {
+                downstream.accept(value);
+            }
+        }, true);
+    }
+
+    public FLongIterable map(LongUnaryOperator function) {
+        return then((downstream, cancellation) -> value -> downstream.accept(function.applyAsLong(value)), true);
+    }
+
+    public FLongIterable limit(long maxSize) {
+        Preconditions.checkArgument(maxSize >= 0, "maxSize %s < 0", maxSize);
+        return then((downstream, cancellation) -> {
+            if (maxSize == 0) {
+                cancellation.requested = true;
+            }
+            long[] count = {0};
+            return value -> {
+                downstream.accept(value);
+                if (++count[0] >= maxSize) {
+                    cancellation.requested = true;
+                }
+            };
+        }, false);
+    }
+
+    public <T> FIterable<T> mapToObj(LongFunction<? extends T> function) {
+        return new FIterable<>(source, (downstream, cancellation) ->
+            stage.wrap(value -> downstream.accept(function.apply(value)), cancellation), false, splittable);
+    }
+
+    public FIterable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    public void forEach(LongConsumer action) {
+        Cancellation cancellation = new Cancellation();
+        FIterable.push(source, stage.wrap(action, cancellation), cancellation);
+    }
+
+    /**
+     * @return The sum, a long even for ints, so that it does not overflow
+     */
+    public long sum() {
+        long[] sum = {0};
+        forEach(value -> sum[0] += value);
+        return sum[0];
+    }
+
+    public long count() {
+        long[] count = {0};
+        forEach(value -> count[0]++);
+        return count[0];
+    }
+
+    public OptionalLong min() {
+        return reduce(Math::min);
+    }
+
+    public OptionalLong max() {
+        return reduce(Math::max);
+    }
+
+    public LongArrayList toList() {
+        LongArrayList list = new LongArrayList();
+        forEach(list::add);
+        return list;
+    }
+
+    public long[] toArray() {
+        return toList().toArray();
+    }
+
+    private OptionalLong reduce(LongBinaryOperator operator) {
+        boolean[] present = {false};
+        long[] result = {0};
+        forEach(value -> {
+            result[0] = present[0] ? operator.applyAsLong(result[0], value) : value;
+            present[0] = true;
+        });
+        return present[0] ? OptionalLong.of(result[0]) : OptionalLong.empty();
+    }
+
+    private FLongIterable then(Op next, boolean splittable) {
+        return new FLongIterable(source, (downstream, cancellation) -> stage.wrap(next.wrap(downstream, cancellation), cancellation),
+            this.splittable && splittable);
+    }
+}
@@ -2,12 +2,14 @@ package io.github.javajerrat.boost.lang.collection.lazy;
 
 import com.google.common.annotations.Beta;
 import java.util.AbstractList;
-import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.RandomAccess;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.NoArgsConstructor;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -15,10 +17,10 @@ import org.jetbrains.annotations.NotNull;
  * @date 18-9-28
  *
  * Warning: This feature is still unstable
+ *
+ * Ranges may hold more than {@link Integer#MAX_VALUE} numbers, see {@link #longSize()} and {@link #getLong(long)}.
+ * To read the numbers without boxing, use {@link #iterator()} as a {@link PrimitiveIterator.OfLong}, or {@link #longStream()}.
  */
-
-@AllArgsConstructor
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Beta
 public class Range extends AbstractList<Long> implements RandomAccess {
 
@@ -27,53 +29,101 @@ public class Range extends AbstractList<Long> implements RandomAccess {
     }
 
     public static Range range(long start, long end, int step) {
+        return new Range(start, end, step);
+    }
+
+    private final long start;
+    private final long end;
+    private final int step;
+    private final long size;
+
+    public Range(long start, long end, int step) {
         if (step == 0) {
             throw new IllegalArgumentException("The step cannot be 0");
         }
 
-        if (end != start &&
-            (end - start > 0 != step > 0)) {
+        if (end != start && (end > start != step > 0)) {
             throw new IllegalArgumentException("The step given will result in infinite flow");
         }
-        return new Range(start, end, step);
+        this.start = start;
+        this.end = end;
+        this.step = step;
+
+        // The distance may exceed Long.MAX_VALUE, e.g. from Long.MIN_VALUE to Long.MAX_VALUE, so it is unsigned
+        long distance = step > 0 ? end - start : start - end;
+        long absStep = Math.abs((long) step);
+        long size = Long.divideUnsigned(distance, absStep) + (Long.remainderUnsigned(distance, absStep) == 0 ? 0 : 1);
+        if (size < 0) {
+            throw new IllegalArgumentException("The range has more than Long.MAX_VALUE numbers");
+        }
+        this.size = size;
     }
 
-    private long start;
-    private long end;
-    private int step;
-
     @Override
     public Long get(int index) {
+        return getLong(index);
+    }
+
+    public long getLong(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index (" + index + ") must be in [0, " + size + ")");
+        }
         return start + index * step;
     }
 
+    /**
+     * @return The number of numbers, {@link Integer#MAX_VALUE} if there are more, as {@link java.util.Collection#size()} requires
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public long longSize() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Long) || size == 0) {
+            return false;
+        }
+        long offset = (Long) o - start;
+        // The offset is unsigned in the direction of the step
+        long distance = step > 0 ? offset : -offset;
+        long absStep = Math.abs((long) step);
+        return Long.remainderUnsigned(distance, absStep) == 0 && Long.compareUnsigned(Long.divideUnsigned(distance, absStep), size) < 0;
+    }
+
     @NotNull
     @Override
-    public Iterator<Long> iterator() {
+    public PrimitiveIterator.OfLong iterator() {
         return new RangeIterator();
     }
 
     @Override
-    public int size() {
-        long diff = Math.abs(end - start);
-        int step = Math.abs(this.step);
-        return (int) (diff % step == 0 ? (diff / step) : (diff / step + 1));
+    public Spliterator.OfLong spliterator() {
+        return new RangeSpliterator(0, size);
     }
 
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
 
     @Override
     public boolean equals(Object o) {
         if (o instanceof Range) {
             Range other = (Range) o;
-            if (isEmpty() && other.isEmpty()) {
-                return true;
+            if (size == 0 || other.size == 0) {
+                return size == other.size;
             }
-
-            int last = size() - 1;
-            return size() == other.size() &&
-                start == other.start &&
-                get(last).equals(other.get(last)) &&
-                step == other.step;
+            // Ranges that differ in their end only may still hold the same numbers
+            return size == other.size && start == other.start && (size == 1 || step == other.step);
         } else {
             return super.equals(o);
         }
@@ -81,23 +131,88 @@ public class Range extends AbstractList<Long> implements RandomAccess {
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end, step);
+        if (size == 0) {
+            return 0;
+        }
+        return Objects.hash(start, size == 1 ? 0 : step, size);
     }
 
-    class RangeIterator implements Iterator<Long> {
+    class RangeIterator implements PrimitiveIterator.OfLong {
 
-        private long next = start;
+        private long index;
 
         @Override
         public boolean hasNext() {
-            return next < end;
+            return index < size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (index >= size) {
+                throw new NoSuchElementException();
+            }
+            return start + index++ * step;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long value = start + index * step;
+            for (; index < size; index++, value += step) {
+                action.accept(value);
+            }
+        }
+    }
+
+    /**
+     * Covers the indexes [from, to), and splits them in halves
+     */
+    class RangeSpliterator implements Spliterator.OfLong {
+
+        private long from;
+        private final long to;
+
+        RangeSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            long mid = (from + to) >>> 1;
+            if (mid <= from) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new RangeSpliterator(from, mid);
+            from = mid;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(start + from++ * step);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            long value = start + from * step;
+            for (long i = from, to = this.to; i < to; i++, value += step) {
+                action.accept(value);
+            }
+            from = to;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
         }
 
         @Override
-        public Long next() {
-            long next = this.next;
-            this.next += step;
-            return next;
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | IMMUTABLE | NONNULL | DISTINCT;
         }
     }
 }
@@ -0,0 +1,321 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A map from {@code int} to {@code int} in an open addressing table, like a {@code HashMap<Integer, Integer>} in two arrays,
+ * e.g. to count or index ids. Absent keys read as 0, like in a counter; use {@link #containsKey(int)} or
+ * {@link #getOrDefault(int, int)} to tell them apart.
+ * The order of iteration is unspecified. The map is not thread-safe.
+ */
+public class IntIntHashMap {
+
+    @FunctionalInterface
+    public interface IntIntConsumer {
+
+        void accept(int key, int value);
+    }
+
+    /**
+     * 0 marks a free slot, so the entry of the key 0 is kept aside
+     */
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int shift;
+    private int size;
+    private boolean containsZero;
+    private int zeroValue;
+
+    public IntIntHashMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The number of entries the map can hold without resizing
+     */
+    public IntIntHashMap(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return containsZero ? size + 1 : size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        return key == 0 ? containsZero : find(key) >= 0;
+    }
+
+    /**
+     * @return The value of the key, 0 if absent
+     */
+    public int get(int key) {
+        return getOrDefault(key, 0);
+    }
+
+    public int getOrDefault(int key, int defaultValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+        int i = find(key);
+        return i >= 0 ? values[i] : defaultValue;
+    }
+
+    /**
+     * @return The previous value, 0 if absent
+     */
+    public int put(int key, int value) {
+        if (key == 0) {
+            int previous = zeroValue;
+            containsZero = true;
+            zeroValue = value;
+            return previous;
+        }
+        int i = find(key);
+        if (i >= 0) {
+            int previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+        insert(-i - 1, key, value);
+        return 0;
+    }
+
+    /**
+     * Add delta to the value of the key, an absent key counts as 0
+     *
+     * @return The new value
+     */
+    public int addTo(int key, int delta) {
+        if (key == 0) {
+            containsZero = true;
+            return zeroValue += delta;
+        }
+        int i = find(key);
+        if (i >= 0) {
+            return values[i] += delta;
+        }
+        insert(-i - 1, key, delta);
+        return delta;
+    }
+
+    /**
+     * @return The value of the key, computed and put if absent
+     */
+    public int computeIfAbsent(int key, IntUnaryOperator mapping) {
+        if (key == 0) {
+            if (!containsZero) {
+                zeroValue = mapping.applyAsInt(key);
+                containsZero = true;
+            }
+            return zeroValue;
+        }
+        int i = find(key);
+        if (i >= 0) {
+            return values[i];
+        }
+        int value = mapping.applyAsInt(key);
+        insert(-i - 1, key, value);
+        return value;
+    }
+
+    /**
+     * @return The removed value, 0 if absent
+     */
+    public int remove(int key) {
+        if (key == 0) {
+            int previous = zeroValue;
+            containsZero = false;
+            zeroValue = 0;
+            return previous;
+        }
+        int i = find(key);
+        if (i < 0) {
+            return 0;
+        }
+        int previous = values[i];
+        delete(i);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        size = 0;
+        containsZero = false;
+        zeroValue = 0;
+    }
+
+    public void forEach(IntIntConsumer action) {
+        if (containsZero) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return The keys, in the order of {@link #values()}
+     */
+    public int[] keys() {
+        int[] result = new int[size()];
+        int j = 0;
+        if (containsZero) {
+            result[j++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[j++] = key;
+            }
+        }
+        return result;
+    }
+
+    public int[] values() {
+        int[] result = new int[size()];
+        int j = 0;
+        if (containsZero) {
+            result[j++] = zeroValue;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result[j++] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The slot of the key, or -(the free slot to insert it at) - 1
+     */
+    private int find(int key) {
+        int[] keys = this.keys;
+        for (int i = PrimitiveHashing.slot(key, shift); ; i = (i + 1) & mask) {
+            int k = keys[i];
+            if (k == key) {
+                return i;
+            }
+            if (k == 0) {
+                return -i - 1;
+            }
+        }
+    }
+
+    private void insert(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length >> 1) {
+            rehash(PrimitiveHashing.grow(keys.length));
+        }
+    }
+
+    private void delete(int hole) {
+        for (int i = (hole + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            if (PrimitiveHashing.canMove(hole, i, PrimitiveHashing.slot(keys[i], shift), mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        keys[hole] = 0;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        shift = PrimitiveHashing.shiftFor(capacity);
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            int key = oldKeys[j];
+            if (key != 0) {
+                int i = PrimitiveHashing.slot(key, shift);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntIntHashMap)) {
+            return false;
+        }
+        IntIntHashMap other = (IntIntHashMap) o;
+        if (size() != other.size() || containsZero != other.containsZero || zeroValue != other.zeroValue) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int j = other.find(keys[i]);
+                if (j < 0 || other.values[j] != values[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The same as the hash code of a {@code Map<Integer, Integer>} of the entries
+     */
+    @Override
+    public int hashCode() {
+        int hash = containsZero ? zeroValue : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += keys[i] ^ values[i];
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A map from {@code long} to objects in an open addressing table, like a {@code HashMap<Long, V>} without a {@code Long} and an entry
+ * per key, e.g. to index rows by id for a join. Values can not be null.
+ * The order of iteration is unspecified. The map is not thread-safe.
+ */
+public class LongObjectHashMap<V> {
+
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+
+        void accept(long key, V value);
+    }
+
+    /**
+     * A null value marks a free slot
+     */
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int shift;
+    private int size;
+
+    public LongObjectHashMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize The number of entries the map can hold without resizing
+     */
+    public LongObjectHashMap(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * @return The value of the key, null if absent
+     */
+    public V get(long key) {
+        int i = find(key);
+        return i >= 0 ? value(i) : null;
+    }
+
+    public V getOrDefault(long key, V defaultValue) {
+        int i = find(key);
+        return i >= 0 ? value(i) : defaultValue;
+    }
+
+    /**
+     * @return The previous value, null if absent
+     */
+    public V put(long key, V value) {
+        Preconditions.checkNotNull(value, "value");
+        int i = find(key);
+        if (i >= 0) {
+            V previous = value(i);
+            values[i] = value;
+            return previous;
+        }
+        insert(-i - 1, key, value);
+        return null;
+    }
+
+    /**
+     * @return The value of the key, computed and put if absent
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mapping) {
+        int i = find(key);
+        if (i >= 0) {
+            return value(i);
+        }
+        V value = Preconditions.checkNotNull(mapping.apply(key), "The mapping returned null");
+        insert(-i - 1, key, value);
+        return value;
+    }
+
+    /**
+     * @return The removed value, null if absent
+     */
+    public V remove(long key) {
+        int i = find(key);
+        if (i < 0) {
+            return null;
+        }
+        V previous = value(i);
+        delete(i);
+        size--;
+        return previous;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    public void forEach(LongObjectConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], value(i));
+            }
+        }
+    }
+
+    /**
+     * @return The keys, in the order of {@link #values()}
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int j = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[j++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result.add(value(i));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int i) {
+        return (V) values[i];
+    }
+
+    /**
+     * @return The slot of the key, or -(the free slot to insert it at) - 1
+     */
+    private int find(long key) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = PrimitiveHashing.slot(key, shift); ; i = (i + 1) & mask) {
+            if (values[i] == null) {
+                return -i - 1;
+            }
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+    }
+
+    private void insert(int slot, long key, V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > keys.length >> 1) {
+            rehash(PrimitiveHashing.grow(keys.length));
+        }
+    }
+
+    private void delete(int hole) {
+        for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            if (PrimitiveHashing.canMove(hole, i, PrimitiveHashing.slot(keys[i], shift), mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = null;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        shift = PrimitiveHashing.shiftFor(capacity);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = PrimitiveHashing.slot(oldKeys[j], shift);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongObjectHashMap)) {
+            return false;
+        }
+        LongObjectHashMap<?> other = (LongObjectHashMap<?>) o;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                int j = other.find(keys[i]);
+                if (j < 0 || !values[i].equals(other.values[j])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The same as the hash code of a {@code Map<Long, V>} of the entries
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                hash += Long.hashCode(keys[i]) ^ values[i].hashCode();
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+}
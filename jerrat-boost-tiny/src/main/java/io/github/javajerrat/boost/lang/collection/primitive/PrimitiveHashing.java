@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import com.google.common.base.Preconditions;
+import com.google.common.math.IntMath;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * The hashing shared by the open addressing tables of this package. Tables have a power of two number of slots and are at most
+ * half full, a key is placed at the slot of its Fibonacci hash or, if taken, at the next free slot (linear probing).
+ */
+final class PrimitiveHashing {
+
+    static final int MIN_CAPACITY = 8;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return The number of slots to hold expectedSize keys without resizing
+     */
+    static int capacityFor(int expectedSize) {
+        Preconditions.checkArgument(expectedSize >= 0, "expectedSize %s < 0", expectedSize);
+        Preconditions.checkArgument(expectedSize <= MAX_CAPACITY / 2, "expectedSize %s is too large", expectedSize);
+        return Math.max(MIN_CAPACITY, IntMath.ceilingPowerOfTwo(Math.max(1, expectedSize * 2)));
+    }
+
+    /**
+     * @return The shift that maps a 32 bit hash to a slot of a table of the capacity
+     */
+    static int shiftFor(int capacity) {
+        return Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    static int slot(int key, int shift) {
+        // The high bits of the product depend on all the bits of the key
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    static int slot(long key, int shift) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> (shift + 32));
+    }
+
+    /**
+     * @return Whether the entry at slot, whose home slot is home, may move to the free slot hole when backward shifting after a removal,
+     * i.e. whether the hole lies between its home and its slot
+     */
+    static boolean canMove(int hole, int slot, int home, int mask) {
+        return ((slot - home) & mask) >= ((slot - hole) & mask);
+    }
+
+    static int grow(int capacity) {
+        if (capacity >= MAX_CAPACITY) {
+            throw new IllegalStateException("The table can not grow over " + MAX_CAPACITY + " slots");
+        }
+        return capacity * 2;
+    }
+}
@@ -15,52 +15,166 @@
 
 package io.github.javajerrat.boost.lang.concurrent.datatype;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.ToString;
 
 /**
  * @author Frapples <isfrapples@outlook.com>
  * @date 2019/4/2
+ *
+ * A {@link LongAdder} whose {@link #sum()} is cached for a bounded time, for counters that are read often, e.g. by every request
+ * that checks a quota, but must stay as cheap as a plain {@link LongAdder} to write.
+ *
+ * Writes do not touch the cache at all. A read recomputes the sum only if the cached one is older than the staleness bound,
+ * so {@link #sum()} may lag behind the writes of the last {@code maxStaleness}. The age is measured with {@link Ticker#systemTicker()}
+ * by default; pass {@link CoarseTicker#get()} to make a cached read cost two volatile reads instead of a {@link System#nanoTime()}.
  */
-
 public class CacheLongAdder extends LongAdder {
 
+    private static final long serialVersionUID = -6266473372651237431L;
+
+    public static final long DEFAULT_MAX_STALENESS_MILLIS = 100;
+
     /**
-     * Last written time
-     */
-    private volatile long lastModify;
-    /**
-     * Last read time
+     * A sum and the time it was computed at, replaced as a whole so that readers never see half of an update
      */
-    private volatile long lastRead;
+    @AllArgsConstructor
+    private static class Mark {
+
+        final long sum;
+        final long nanos;
+    }
 
     /**
-     * Cached long value
+     * The number of increments over a time window, see {@link #rate()}
      */
-    private Long cacheSum = null;
+    @AllArgsConstructor
+    @ToString
+    public static class Rate {
+
+        public final long count;
+        public final long elapsedNanos;
+
+        /**
+         * @return count per second, 0 if no time elapsed
+         */
+        public double perSecond() {
+            return elapsedNanos <= 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+    }
+
+    private final long maxStalenessNanos;
+
+    private final transient Ticker ticker;
+
+    private transient volatile Mark cache;
+
+    private final transient AtomicReference<Mark> rateMark;
 
     public CacheLongAdder() {
-        this.lastModify = System.currentTimeMillis();
-        this.lastRead = -1L;
+        this(DEFAULT_MAX_STALENESS_MILLIS, TimeUnit.MILLISECONDS);
     }
 
-    @Override
-    public void add(long x) {
-        super.add(x);
-        lastModify = System.currentTimeMillis();
+    /**
+     * @param maxStaleness How long a cached sum may be returned by {@link #sum()}, 0 disables the cache
+     */
+    public CacheLongAdder(long maxStaleness, TimeUnit unit) {
+        this(maxStaleness, unit, Ticker.systemTicker());
+    }
+
+    public CacheLongAdder(long maxStaleness, TimeUnit unit, Ticker ticker) {
+        Preconditions.checkArgument(maxStaleness >= 0, "maxStaleness %s < 0", maxStaleness);
+        this.maxStalenessNanos = unit.toNanos(maxStaleness);
+        this.ticker = ticker;
+        long now = ticker.read();
+        this.cache = new Mark(0, now - maxStalenessNanos - 1);
+        this.rateMark = new AtomicReference<>(new Mark(0, now));
     }
 
     /**
      * Get the accumulated value, because the cache, the performance is higher,
-     * but there is a deviation between the value and the actual value
+     * but it may miss the updates of the last {@code maxStaleness}
      */
     @Override
     public long sum() {
-        long lastRead = this.lastRead;
-        long lastModify = this.lastModify;
-        if (cacheSum == null || lastRead < lastModify) {
-            cacheSum = super.sum();
-            this.lastRead = System.currentTimeMillis();
+        if (maxStalenessNanos == 0) {
+            return super.sum();
+        }
+        Mark cache = this.cache;
+        long now = ticker.read();
+        if (now - cache.nanos > maxStalenessNanos) {
+            cache = new Mark(super.sum(), now);
+            this.cache = cache;
         }
-        return cacheSum;
+        return cache.sum;
+    }
+
+    /**
+     * @return The current sum, bypassing the cache
+     */
+    public long exactSum() {
+        return super.sum();
+    }
+
+    @Override
+    public long longValue() {
+        return sum();
+    }
+
+    @Override
+    public int intValue() {
+        return (int) sum();
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) sum();
+    }
+
+    @Override
+    public double doubleValue() {
+        return (double) sum();
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(sum());
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        invalidate();
+    }
+
+    /**
+     * Like {@link LongAdder#sumThenReset()}, and the cached sum is dropped.
+     * Increments that race with it are either included in the result or kept for the next period, never lost.
+     */
+    @Override
+    public long sumThenReset() {
+        long sum = super.sumThenReset();
+        invalidate();
+        return sum;
+    }
+
+    /**
+     * @return The increments since the previous call (or since creation) and the time between the two calls.
+     * Each call starts a new window, so a single reporter should call it periodically.
+     * The count is the difference of two sums, so do not mix it with {@link #reset()} or {@link #sumThenReset()}.
+     */
+    public Rate rate() {
+        Mark now = new Mark(super.sum(), ticker.read());
+        Mark prev = rateMark.getAndSet(now);
+        return new Rate(now.sum - prev.sum, now.nanos - prev.nanos);
+    }
+
+    private void invalidate() {
+        cache = new Mark(0, ticker.read() - maxStalenessNanos - 1);
     }
 }
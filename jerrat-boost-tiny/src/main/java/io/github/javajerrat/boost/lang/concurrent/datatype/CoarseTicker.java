@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A {@link Ticker} that costs a volatile read, for hot paths that only need millisecond resolution.
+ * {@link System#nanoTime()} may cost hundreds of nanoseconds on virtual machines.
+ *
+ * The time is refreshed about every {@link #RESOLUTION_NANOS} by a daemon thread, started on first use and never stopped,
+ * so nothing in this library uses it by default: pass it explicitly where a {@link Ticker} is taken.
+ */
+public final class CoarseTicker extends Ticker {
+
+    public static final long RESOLUTION_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final CoarseTicker INSTANCE = new CoarseTicker();
+
+    private volatile long nanos = System.nanoTime();
+
+    private CoarseTicker() {
+        Thread thread = new Thread(() -> {
+            for (; ; ) {
+                LockSupport.parkNanos(RESOLUTION_NANOS);
+                nanos = System.nanoTime();
+            }
+        }, "jerrat-coarse-ticker");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public static CoarseTicker get() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long read() {
+        return nanos;
+    }
+}
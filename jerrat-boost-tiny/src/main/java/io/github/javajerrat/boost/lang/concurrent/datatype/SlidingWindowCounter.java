@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Counts events over the last window, e.g. the QPS of an endpoint over the last 10 seconds.
+ *
+ * The window is a ring of buckets, each one a {@link LongAdder}. Recording finds the bucket of the current time and adds to it,
+ * without locks or allocation. A bucket is reset when the ring comes around to it again, and a few events racing with that
+ * reset may be lost. Reading sums the buckets still in the window, so the oldest bucket is partially expired.
+ */
+public class SlidingWindowCounter {
+
+    private static final AtomicLongFieldUpdater<Bucket> EPOCH = AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+    private static class Bucket {
+
+        /**
+         * The time of the bucket, in bucket durations
+         */
+        volatile long epoch = Long.MIN_VALUE;
+
+        final LongAdder count = new LongAdder();
+    }
+
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+    private final Ticker ticker;
+
+    /**
+     * @param window The length of the window
+     * @param buckets The number of buckets the window is split into, more buckets expire events more smoothly
+     */
+    public static SlidingWindowCounter of(long window, TimeUnit unit, int buckets) {
+        return of(window, unit, buckets, Ticker.systemTicker());
+    }
+
+    public static SlidingWindowCounter of(long window, TimeUnit unit, int buckets, Ticker ticker) {
+        return new SlidingWindowCounter(unit.toNanos(window), buckets, ticker);
+    }
+
+    private SlidingWindowCounter(long windowNanos, int buckets, Ticker ticker) {
+        Preconditions.checkArgument(buckets > 0, "buckets %s <= 0", buckets);
+        Preconditions.checkArgument(windowNanos >= buckets, "The window is too short for %s buckets", buckets);
+        this.bucketNanos = windowNanos / buckets;
+        this.ticker = ticker;
+        this.buckets = new Bucket[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new Bucket();
+        }
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void add(long x) {
+        long epoch = Math.floorDiv(ticker.read(), bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        long current = bucket.epoch;
+        // Only the thread that moves the epoch forward resets the bucket
+        if (current < epoch && EPOCH.compareAndSet(bucket, current, epoch)) {
+            bucket.count.reset();
+        }
+        bucket.count.add(x);
+    }
+
+    /**
+     * @return The number of events in the window
+     */
+    public long sum() {
+        long oldest = Math.floorDiv(ticker.read(), bucketNanos) - buckets.length;
+        long sum = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch > oldest) {
+                sum += bucket.count.sum();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return The events per second over the window
+     */
+    public double rate() {
+        return sum() * (double) TimeUnit.SECONDS.toNanos(1) / (bucketNanos * buckets.length);
+    }
+
+    /**
+     * @return The length of the window in nanoseconds
+     */
+    public long windowNanos() {
+        return bucketNanos * buckets.length;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import com.google.common.base.Preconditions;
+import com.google.common.math.IntMath;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A round-robin counter for load balancing that stays cheap when many threads pick backends at the same time.
+ *
+ * Like {@link AtomicPositiveInteger}, values are in [0, {@link Integer#MAX_VALUE}] and wrap to 0 after {@link Integer#MAX_VALUE}.
+ * It starts with a single padded cell. When an increment loses a race, the cells are doubled (up to the number of processors)
+ * and each thread then counts on its own cell, on its own cache line.
+ *
+ * The values of one cell are consecutive, but once striped, different threads may get the same value, so it is a fair
+ * round-robin selector rather than a unique sequence. Use {@link AtomicPositiveInteger} when every value must be handed out once.
+ */
+public class StripedAtomicPositiveInteger extends Number {
+
+    private static final long serialVersionUID = 2203519634213768531L;
+
+    /**
+     * Number of ints between two cells, 128 bytes keeps them on different cache lines even with adjacent line prefetching
+     */
+    private static final int PADDING = 32;
+
+    private static final int MAX_STRIPES = Math.min(64, IntMath.ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()));
+
+    /**
+     * Cell s is at index (s + 1) * PADDING, so that every cell is padded on both sides
+     */
+    private volatile AtomicIntegerArray cells;
+
+    private final AtomicBoolean growing = new AtomicBoolean();
+
+    private final int maxStripes;
+
+    public StripedAtomicPositiveInteger() {
+        this(0);
+    }
+
+    public StripedAtomicPositiveInteger(int initialValue) {
+        this(initialValue, MAX_STRIPES);
+    }
+
+    StripedAtomicPositiveInteger(int initialValue, int maxStripes) {
+        Preconditions.checkArgument(initialValue >= 0, "initial value %s < 0", initialValue);
+        Preconditions.checkArgument(IntMath.isPowerOfTwo(maxStripes), "maxStripes %s is not a power of two", maxStripes);
+        this.maxStripes = maxStripes;
+        cells = new AtomicIntegerArray(2 * PADDING);
+        cells.set(PADDING, initialValue);
+    }
+
+    public final int getAndIncrement() {
+        AtomicIntegerArray cells = this.cells;
+        int stripes = cells.length() / PADDING - 1;
+        int index = (stripe(stripes) + 1) * PADDING;
+        int current = cells.get(index);
+        if (cells.compareAndSet(index, current, current + 1)) {
+            return current & Integer.MAX_VALUE;
+        }
+        grow(cells, stripes);
+        // Overflowing to Integer.MIN_VALUE and masking the sign bit wraps to 0, without a retry loop
+        return cells.getAndIncrement(index) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * @param modulo The number of candidates
+     * @return The next index in [0, modulo) in round-robin order
+     */
+    public final int nextIndex(int modulo) {
+        Preconditions.checkArgument(modulo > 0, "modulo %s <= 0", modulo);
+        int value = getAndIncrement();
+        return (modulo & (modulo - 1)) == 0 ? value & (modulo - 1) : value % modulo;
+    }
+
+    /**
+     * @return The value of the first cell
+     */
+    public final int get() {
+        return cells.get(PADDING) & Integer.MAX_VALUE;
+    }
+
+    /**
+     * @return The number of cells in use, grows with contention
+     */
+    public final int stripes() {
+        return cells.length() / PADDING - 1;
+    }
+
+    /**
+     * What an increment does after losing a race
+     */
+    void grow() {
+        AtomicIntegerArray cells = this.cells;
+        grow(cells, cells.length() / PADDING - 1);
+    }
+
+    private void grow(AtomicIntegerArray cells, int stripes) {
+        if (stripes >= maxStripes || !growing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (this.cells != cells) {
+                return;
+            }
+            AtomicIntegerArray grown = new AtomicIntegerArray((stripes * 2 + 1) * PADDING);
+            int base = cells.get(PADDING);
+            for (int s = 0; s < stripes * 2; s++) {
+                // New cells start next to the first one, offset so that concurrent threads pick different candidates
+                grown.set((s + 1) * PADDING, s < stripes ? cells.get((s + 1) * PADDING) : base + s);
+            }
+            this.cells = grown;
+        } finally {
+            growing.set(false);
+        }
+    }
+
+    private static int stripe(int stripes) {
+        if (stripes == 1) {
+            return 0;
+        }
+        // Fibonacci hashing spreads sequential thread ids over the cells
+        return (int) ((Thread.currentThread().getId() * 0x9E3779B97F4A7C15L) >>> 40) & (stripes - 1);
+    }
+
+    @Override
+    public int intValue() {
+        return get();
+    }
+
+    @Override
+    public long longValue() {
+        return get();
+    }
+
+    @Override
+    public float floatValue() {
+        return get();
+    }
+
+    @Override
+    public double doubleValue() {
+        return get();
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(get());
+    }
+}
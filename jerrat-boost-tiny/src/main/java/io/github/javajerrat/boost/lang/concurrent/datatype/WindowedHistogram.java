@@ -0,0 +1,225 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Records values, e.g. latencies in microseconds, over the last window and reports their percentiles.
+ *
+ * Like in HdrHistogram, values are counted in log-linear buckets: exact below 2^(precisionBits + 1), and above that every power of two
+ * is split into 2^precisionBits buckets, so a reported value is at most 2^-precisionBits above the recorded one.
+ * Like {@link SlidingWindowCounter}, the window is a ring of such histograms, reset when the ring comes around to them.
+ * Recording takes no lock and allocates nothing; a snapshot merges the histograms of the window.
+ */
+public class WindowedHistogram {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        long window = 60;
+
+        TimeUnit unit = TimeUnit.SECONDS;
+
+        /**
+         * The number of histograms the window is split into
+         */
+        int buckets = 6;
+
+        /**
+         * Larger values are recorded as this value. One minute in microseconds by default.
+         */
+        long highestValue = TimeUnit.MINUTES.toMicros(1);
+
+        /**
+         * The relative error is below 2^-precisionBits, 7 bits is below 1%
+         */
+        int precisionBits = 7;
+
+        Ticker ticker = Ticker.systemTicker();
+    }
+
+    private static final AtomicLongFieldUpdater<Bucket> EPOCH = AtomicLongFieldUpdater.newUpdater(Bucket.class, "epoch");
+
+    private static class Bucket {
+
+        volatile long epoch = Long.MIN_VALUE;
+
+        final AtomicLongArray counts;
+
+        final LongAdder sum = new LongAdder();
+
+        final AtomicLong max = new AtomicLong();
+
+        Bucket(int length) {
+            counts = new AtomicLongArray(length);
+        }
+
+        void reset() {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            sum.reset();
+            max.set(0);
+        }
+    }
+
+    /**
+     * The values recorded in the window
+     */
+    public static class Snapshot {
+
+        private final long[] counts;
+        private final int precisionBits;
+
+        public final long count;
+        public final long sum;
+        public final long max;
+
+        private Snapshot(long[] counts, int precisionBits, long sum, long max) {
+            this.counts = counts;
+            this.precisionBits = precisionBits;
+            long count = 0;
+            for (long c : counts) {
+                count += c;
+            }
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * @return The average value, 0 if there are no values
+         */
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * @param percentile In [0, 100], e.g. 99.9
+         * @return The value that the given percentage of the values are lower than or equal to, 0 if there are no values
+         */
+        public long valueAtPercentile(double percentile) {
+            Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "percentile %s is not in [0, 100]", percentile);
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestEquivalentValue(i, precisionBits), max);
+                }
+            }
+            return max;
+        }
+    }
+
+    private final Bucket[] buckets;
+    private final long bucketNanos;
+    private final long highestValue;
+    private final int precisionBits;
+    private final Ticker ticker;
+
+    public static WindowedHistogram of(Config config) {
+        return new WindowedHistogram(config);
+    }
+
+    private WindowedHistogram(Config config) {
+        long windowNanos = config.unit.toNanos(config.window);
+        Preconditions.checkArgument(config.buckets > 0, "buckets %s <= 0", config.buckets);
+        Preconditions.checkArgument(windowNanos >= config.buckets, "The window is too short for %s buckets", config.buckets);
+        Preconditions.checkArgument(config.highestValue > 0, "highestValue %s <= 0", config.highestValue);
+        Preconditions.checkArgument(config.precisionBits > 0 && config.precisionBits <= 16, "precisionBits must be in [1, 16]");
+
+        this.bucketNanos = windowNanos / config.buckets;
+        this.highestValue = config.highestValue;
+        this.precisionBits = config.precisionBits;
+        this.ticker = config.ticker;
+        int length = indexOf(highestValue, precisionBits) + 1;
+        this.buckets = new Bucket[config.buckets];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(length);
+        }
+    }
+
+    /**
+     * @param value A non negative value, values above {@link Config#highestValue} are recorded as it
+     */
+    public void record(long value) {
+        Preconditions.checkArgument(value >= 0, "value %s < 0", value);
+        value = Math.min(value, highestValue);
+
+        long epoch = Math.floorDiv(ticker.read(), bucketNanos);
+        Bucket bucket = buckets[(int) Math.floorMod(epoch, (long) buckets.length)];
+        long current = bucket.epoch;
+        if (current < epoch && EPOCH.compareAndSet(bucket, current, epoch)) {
+            bucket.reset();
+        }
+        bucket.counts.incrementAndGet(indexOf(value, precisionBits));
+        bucket.sum.add(value);
+        for (long max = bucket.max.get(); value > max && !bucket.max.compareAndSet(max, value); ) {
+            max = bucket.max.get();
+        }
+    }
+
+    /**
+     * @return The values recorded in the window
+     */
+    public Snapshot snapshot() {
+        long oldest = Math.floorDiv(ticker.read(), bucketNanos) - buckets.length;
+        long[] counts = new long[buckets[0].counts.length()];
+        long sum = 0;
+        long max = 0;
+        for (Bucket bucket : buckets) {
+            if (bucket.epoch > oldest) {
+                for (int i = 0; i < counts.length; i++) {
+                    counts[i] += bucket.counts.get(i);
+                }
+                sum += bucket.sum.sum();
+                max = Math.max(max, bucket.max.get());
+            }
+        }
+        return new Snapshot(counts, precisionBits, sum, max);
+    }
+
+    static int indexOf(long value, int precisionBits) {
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        if (msb <= precisionBits) {
+            return (int) value;
+        }
+        int shift = msb - precisionBits;
+        return (shift << precisionBits) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int index, int precisionBits) {
+        int shift = Math.max(0, (index >>> precisionBits) - 1);
+        long lowest = (long) (index - (shift << precisionBits)) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -53,10 +53,20 @@ public class AutoCloseableLock extends ForwardingLock {
         return autoCloseable;
     }
 
+    /**
+     * @throws TimeoutException Without a stack trace, if the lock was not acquired in time
+     */
     public UncheckedAutoCloseable withTryLock(long time, TimeUnit unit) throws InterruptedException, TimeoutException {
         if (!this.lock.tryLock(time, unit)) {
-            throw new TimeoutException();
+            throw Locks.timeout();
         }
         return autoCloseable;
     }
+
+    /**
+     * @return Releases the lock, or null if the lock was not acquired in time. Closing null in try-with-resources is skipped.
+     */
+    public UncheckedAutoCloseable tryWithLock(long time, TimeUnit unit) throws InterruptedException {
+        return this.lock.tryLock(time, unit) ? autoCloseable : null;
+    }
 }
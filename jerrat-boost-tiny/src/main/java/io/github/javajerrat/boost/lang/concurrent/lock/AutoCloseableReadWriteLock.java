@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A {@link ReadWriteLock} whose read and write locks are {@link AutoCloseableLock}s.
+ */
+public class AutoCloseableReadWriteLock implements ReadWriteLock {
+
+    private final AutoCloseableLock readLock;
+    private final AutoCloseableLock writeLock;
+
+    AutoCloseableReadWriteLock(ReadWriteLock lock) {
+        this.readLock = new AutoCloseableLock(lock.readLock());
+        this.writeLock = new AutoCloseableLock(lock.writeLock());
+    }
+
+    @Override
+    public AutoCloseableLock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public AutoCloseableLock writeLock() {
+        return writeLock;
+    }
+
+    public UncheckedAutoCloseable withRead() {
+        return readLock.withLock();
+    }
+
+    public UncheckedAutoCloseable withWrite() {
+        return writeLock.withLock();
+    }
+}
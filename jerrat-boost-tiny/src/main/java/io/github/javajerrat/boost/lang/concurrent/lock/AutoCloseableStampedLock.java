@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A {@link StampedLock} with try-with-resources read and write locks, and optimistic reads.
+ * The read and write locks are the {@link StampedLock#asReadLock()} and {@link StampedLock#asWriteLock()} views, they are not reentrant.
+ */
+public class AutoCloseableStampedLock {
+
+    private final StampedLock lock;
+    private final AutoCloseableLock readLock;
+    private final AutoCloseableLock writeLock;
+
+    AutoCloseableStampedLock(StampedLock lock) {
+        this.lock = lock;
+        this.readLock = new AutoCloseableLock(lock.asReadLock());
+        this.writeLock = new AutoCloseableLock(lock.asWriteLock());
+    }
+
+    public StampedLock stampedLock() {
+        return lock;
+    }
+
+    public AutoCloseableLock readLock() {
+        return readLock;
+    }
+
+    public AutoCloseableLock writeLock() {
+        return writeLock;
+    }
+
+    public UncheckedAutoCloseable withRead() {
+        return readLock.withLock();
+    }
+
+    public UncheckedAutoCloseable withWrite() {
+        return writeLock.withLock();
+    }
+
+    /**
+     * @see Locks#optimisticRead(StampedLock, Supplier)
+     */
+    public <T> T optimisticRead(Supplier<T> reader) {
+        return Locks.optimisticRead(lock, reader);
+    }
+
+    /**
+     * Acquire the read lock, and keep its stamp so that it can be converted to the write lock.
+     * <pre>
+     * try (Stamp stamp = lock.withReadStamp()) {
+     *     if (needsUpdate()) {
+     *         stamp.convertToWrite();
+     *         ...
+     *     }
+     * }
+     * </pre>
+     */
+    public Stamp withReadStamp() {
+        return new Stamp(lock, lock.readLock(), false);
+    }
+
+    public Stamp withWriteStamp() {
+        return new Stamp(lock, lock.writeLock(), true);
+    }
+
+    /**
+     * A held read or write lock of a {@link StampedLock}, released on close
+     */
+    public static final class Stamp implements UncheckedAutoCloseable {
+
+        private final StampedLock lock;
+        private long stamp;
+        private boolean write;
+
+        private Stamp(StampedLock lock, long stamp, boolean write) {
+            this.lock = lock;
+            this.stamp = stamp;
+            this.write = write;
+        }
+
+        public long stamp() {
+            return stamp;
+        }
+
+        public boolean isWrite() {
+            return write;
+        }
+
+        /**
+         * Convert to the write lock if it is possible without releasing the lock, i.e. no other thread holds the read lock.
+         * @return Whether this holds the write lock now
+         */
+        public boolean tryConvertToWrite() {
+            if (write) {
+                return true;
+            }
+            long converted = lock.tryConvertToWriteLock(stamp);
+            if (converted == 0) {
+                return false;
+            }
+            stamp = converted;
+            write = true;
+            return true;
+        }
+
+        /**
+         * Convert to the write lock, releasing the read lock and waiting for the write lock if it can not be converted in place.
+         * @return false if the lock was released in between, so the state read before must be read again
+         */
+        public boolean convertToWrite() {
+            if (tryConvertToWrite()) {
+                return true;
+            }
+            lock.unlockRead(stamp);
+            stamp = lock.writeLock();
+            write = true;
+            return false;
+        }
+
+        /**
+         * Convert to the read lock, letting other readers in. Always possible without releasing the lock.
+         */
+        public void convertToRead() {
+            if (write) {
+                stamp = lock.tryConvertToReadLock(stamp);
+                write = false;
+            }
+        }
+
+        @Override
+        public void close() {
+            lock.unlock(stamp);
+        }
+    }
+}
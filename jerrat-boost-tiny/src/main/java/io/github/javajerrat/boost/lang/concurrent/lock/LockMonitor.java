@@ -0,0 +1,250 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import io.github.javajerrat.boost.lang.concurrent.datatype.WindowedHistogram;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * Collects the contention statistics of named locks, to find out which locks are contended:
+ * <pre>
+ * AutoCloseableLock lock = Locks.autoCloseableLock(LockMonitor.global().instrument("order-cache", new ReentrantLock()));
+ * ...
+ * LockMonitor.global().setEnabled(true);
+ * for (LockMonitor.Snapshot snapshot : LockMonitor.global().snapshots()) {
+ *     log.info("{}", snapshot);
+ * }
+ * </pre>
+ *
+ * Locks instrumented with the same name share their statistics, e.g. all the stripes of a {@link StripedLocks}.
+ * Wait and hold times are recorded in nanoseconds into {@link WindowedHistogram}s, so they cover the last window;
+ * the counters and the waiting threads are cumulative.
+ */
+public class LockMonitor {
+
+    @Data
+    @Accessors(fluent = true)
+    @NoArgsConstructor(staticName = "of")
+    public static class Config {
+
+        boolean enabled = true;
+
+        long window = 60;
+
+        TimeUnit unit = TimeUnit.SECONDS;
+
+        int buckets = 6;
+
+        /**
+         * Longer waits and holds are recorded as this
+         */
+        long highestNanos = TimeUnit.SECONDS.toNanos(10);
+
+        /**
+         * 4 bits is a relative error below 7%, and about 4 KB per histogram bucket
+         */
+        int precisionBits = 4;
+
+        /**
+         * The number of waiting threads tracked per name, the waits of further threads are attributed to {@link #OTHER_THREADS}
+         */
+        int maxWaiters = 32;
+
+        Ticker ticker = Ticker.systemTicker();
+    }
+
+    public static final String OTHER_THREADS = "<other>";
+
+    /**
+     * The statistics of one name at some point
+     */
+    @AllArgsConstructor
+    @ToString
+    public static class Snapshot {
+
+        public final String name;
+
+        /**
+         * The number of times the lock was acquired while the monitor was enabled
+         */
+        public final long acquisitions;
+
+        /**
+         * The number of acquisitions that had to wait, including failed {@code tryLock}s
+         */
+        public final long contentions;
+
+        /**
+         * The time contended acquisitions waited, uncontended ones are not recorded
+         */
+        public final WindowedHistogram.Snapshot waitNanos;
+
+        public final WindowedHistogram.Snapshot holdNanos;
+
+        /**
+         * The threads that waited the longest in total, longest first
+         */
+        public final List<Waiter> topWaiters;
+    }
+
+    @AllArgsConstructor
+    @ToString
+    public static class Waiter {
+
+        public final String threadName;
+        public final long count;
+        public final long waitNanos;
+    }
+
+    /**
+     * The mutable statistics of one name
+     */
+    static class Stats {
+
+        final String name;
+        final LongAdder acquisitions = new LongAdder();
+        final LongAdder contentions = new LongAdder();
+        final WindowedHistogram waits;
+        final WindowedHistogram holds;
+        final Map<String, LongAdder[]> waiters = new ConcurrentHashMap<>();
+        final int maxWaiters;
+
+        Stats(String name, Config config) {
+            this.name = name;
+            this.waits = WindowedHistogram.of(histogramConfig(config));
+            this.holds = WindowedHistogram.of(histogramConfig(config));
+            this.maxWaiters = config.maxWaiters;
+        }
+
+        void contended(long waitNanos) {
+            contentions.increment();
+            waits.record(Math.max(0, waitNanos));
+            String thread = Thread.currentThread().getName();
+            LongAdder[] waiter = waiters.get(thread);
+            if (waiter == null) {
+                waiter = waiters.computeIfAbsent(waiters.size() < maxWaiters ? thread : OTHER_THREADS,
+                    k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            }
+            waiter[0].increment();
+            waiter[1].add(waitNanos);
+        }
+
+        void held(long holdNanos) {
+            holds.record(Math.max(0, holdNanos));
+        }
+
+        Snapshot snapshot() {
+            List<Waiter> top = new ArrayList<>(waiters.size());
+            waiters.forEach((thread, waiter) -> top.add(new Waiter(thread, waiter[0].sum(), waiter[1].sum())));
+            top.sort(Comparator.comparingLong((Waiter waiter) -> waiter.waitNanos).reversed());
+            return new Snapshot(name, acquisitions.sum(), contentions.sum(), waits.snapshot(), holds.snapshot(), top);
+        }
+
+        private static WindowedHistogram.Config histogramConfig(Config config) {
+            return WindowedHistogram.Config.of()
+                .window(config.window)
+                .unit(config.unit)
+                .buckets(config.buckets)
+                .highestValue(config.highestNanos)
+                .precisionBits(config.precisionBits);
+        }
+    }
+
+    private static final LockMonitor GLOBAL = new LockMonitor(Config.of().enabled(false));
+
+    private final Config config;
+
+    final Ticker ticker;
+
+    private volatile boolean enabled;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * @return The monitor shared by the application, disabled until {@link #setEnabled(boolean)} is called
+     */
+    public static LockMonitor global() {
+        return GLOBAL;
+    }
+
+    public static LockMonitor of(Config config) {
+        return new LockMonitor(config);
+    }
+
+    private LockMonitor(Config config) {
+        Preconditions.checkArgument(config.maxWaiters > 0, "maxWaiters %s <= 0", config.maxWaiters);
+        this.config = config;
+        this.ticker = config.ticker;
+        this.enabled = config.enabled;
+    }
+
+    /**
+     * @param name The name the statistics are reported under
+     * @param lock An exclusive lock
+     */
+    public InstrumentedLock instrument(String name, Lock lock) {
+        Preconditions.checkNotNull(name);
+        return new InstrumentedLock(lock, this, stats.computeIfAbsent(name, k -> new Stats(k, config)));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Locks taken while the monitor was disabled are not recorded, even if released after enabling it
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return The statistics of the name, null if no lock was instrumented with it
+     */
+    public Snapshot snapshot(String name) {
+        Stats stats = this.stats.get(name);
+        return stats == null ? null : stats.snapshot();
+    }
+
+    /**
+     * @return The statistics of all the names, most contended first
+     */
+    public List<Snapshot> snapshots() {
+        List<Snapshot> snapshots = new ArrayList<>(stats.size());
+        for (Stats stats : this.stats.values()) {
+            snapshots.add(stats.snapshot());
+        }
+        snapshots.sort(Comparator.comparingLong((Snapshot snapshot) -> snapshot.contentions).reversed());
+        return snapshots;
+    }
+}
@@ -15,9 +15,17 @@
 
 package io.github.javajerrat.boost.lang.concurrent.lock;
 
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import lombok.Lombok;
 import org.jooq.lambda.fi.util.function.CheckedSupplier;
 
@@ -27,13 +35,35 @@ import org.jooq.lambda.fi.util.function.CheckedSupplier;
  */
 public class Locks {
 
+    /**
+     * Thrown when a timed acquisition fails. Failing to lock is expected under overload, when a stack trace would only add to
+     * the load, so it has none. A new instance is thrown every time, since callers may add suppressed exceptions or a cause to it.
+     */
+    static TimeoutException timeout() {
+        return new LockTimeoutException();
+    }
+
+    private static final class LockTimeoutException extends TimeoutException {
+
+        private static final long serialVersionUID = 4590221429412938021L;
+
+        LockTimeoutException() {
+            super("Timed out waiting for the lock");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     public Locks() {
         throw new UnsupportedOperationException();
     }
 
     public static void withSynchronized(Lock lock, int time, TimeUnit timeUnit, Runnable continuation) throws InterruptedException, TimeoutException {
         if (!lock.tryLock(time, timeUnit)) {
-            throw new TimeoutException();
+            throw timeout();
         }
         try {
             continuation.run();
@@ -45,7 +75,7 @@ public class Locks {
     public static <T> T withSynchronized(
         Lock lock, int time, TimeUnit timeUnit, CheckedSupplier<T> continuation) throws InterruptedException, TimeoutException {
         if (!lock.tryLock(time, timeUnit)) {
-            throw new TimeoutException();
+            throw timeout();
         }
         try {
             try {
@@ -58,7 +88,155 @@ public class Locks {
         }
     }
 
+    /**
+     * Like {@link #withSynchronized(Lock, int, TimeUnit, Runnable)}, reporting the timeout by the return value
+     *
+     * @return false if the lock was not acquired in time, and the continuation was not run
+     */
+    public static boolean tryWithSynchronized(Lock lock, long time, TimeUnit timeUnit, Runnable continuation) throws InterruptedException {
+        if (!lock.tryLock(time, timeUnit)) {
+            return false;
+        }
+        try {
+            continuation.run();
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * Apply the function to the argument with the lock held. Passing the state as the argument instead of capturing it
+     * lets the function be a constant lambda, so that nothing is allocated per call:
+     * <pre>
+     * Order order = Locks.tryWithSynchronized(lock, 10, TimeUnit.MILLISECONDS, orderId, orders::get, null);
+     * </pre>
+     *
+     * @return The value of the function, or timeoutValue if the lock was not acquired in time
+     */
+    public static <T, R> R tryWithSynchronized(
+        Lock lock, long time, TimeUnit timeUnit, T argument, Function<? super T, ? extends R> function, R timeoutValue)
+        throws InterruptedException {
+        if (!lock.tryLock(time, timeUnit)) {
+            return timeoutValue;
+        }
+        try {
+            return function.apply(argument);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Like {@link #tryWithSynchronized(Lock, long, TimeUnit, Object, Function, Object)} without boxing the result
+     */
+    public static <T> int tryWithSynchronizedToInt(
+        Lock lock, long time, TimeUnit timeUnit, T argument, ToIntFunction<? super T> function, int timeoutValue)
+        throws InterruptedException {
+        if (!lock.tryLock(time, timeUnit)) {
+            return timeoutValue;
+        }
+        try {
+            return function.applyAsInt(argument);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static <T> long tryWithSynchronizedToLong(
+        Lock lock, long time, TimeUnit timeUnit, T argument, ToLongFunction<? super T> function, long timeoutValue)
+        throws InterruptedException {
+        if (!lock.tryLock(time, timeUnit)) {
+            return timeoutValue;
+        }
+        try {
+            return function.applyAsLong(argument);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static <T> boolean tryWithSynchronizedToBoolean(
+        Lock lock, long time, TimeUnit timeUnit, T argument, Predicate<? super T> function, boolean timeoutValue)
+        throws InterruptedException {
+        if (!lock.tryLock(time, timeUnit)) {
+            return timeoutValue;
+        }
+        try {
+            return function.test(argument);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Apply the function to the key with the lock of the key held
+     *
+     * @return The value of the function, or timeoutValue if the lock was not acquired in time
+     */
+    public static <K, R> R tryWithSynchronized(
+        StripedLocks<? extends Lock> locks, K key, long time, TimeUnit timeUnit, Function<? super K, ? extends R> function,
+        R timeoutValue) throws InterruptedException {
+        return tryWithSynchronized(locks.get(key), time, timeUnit, key, function, timeoutValue);
+    }
+
+    /**
+     * Acquire the lock of the key:
+     * <pre>
+     * try (UncheckedAutoCloseable locked = Locks.tryWithLock(locks, key, 10, TimeUnit.MILLISECONDS)) {
+     *     if (locked == null) {
+     *         return rejected();
+     *     }
+     *     ...
+     * }
+     * </pre>
+     *
+     * @return Releases the lock, or null if the lock was not acquired in time
+     */
+    public static UncheckedAutoCloseable tryWithLock(
+        StripedLocks<? extends AutoCloseableLock> locks, Object key, long time, TimeUnit timeUnit) throws InterruptedException {
+        return locks.get(key).tryWithLock(time, timeUnit);
+    }
+
+    /**
+     * Run the reader without locking, and run it again under the read lock if a write happened meanwhile.
+     * Read-mostly state, e.g. configuration or routing tables, is then read without writing to any shared memory.
+     *
+     * The reader may see inconsistent state on the first run, so it must only read fields, and must not fail or loop on what it reads.
+     * Copy the fields to locals in the reader and compute on them after it returns.
+     */
+    public static <T> T optimisticRead(StampedLock lock, Supplier<T> reader) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            T value = reader.get();
+            if (lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
     public static AutoCloseableLock autoCloseableLock(Lock lock) {
         return new AutoCloseableLock(lock);
     }
+
+    /**
+     * @return The lock, reporting its contention to {@link LockMonitor#global()} under the name while the monitor is enabled
+     */
+    public static AutoCloseableLock instrumented(String name, Lock lock) {
+        return new AutoCloseableLock(LockMonitor.global().instrument(name, lock));
+    }
+
+    public static AutoCloseableReadWriteLock autoCloseableReadWriteLock(ReadWriteLock lock) {
+        return new AutoCloseableReadWriteLock(lock);
+    }
+
+    public static AutoCloseableStampedLock autoCloseableStampedLock(StampedLock lock) {
+        return new AutoCloseableStampedLock(lock);
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.math.IntMath;
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import lombok.Lombok;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ *
+ * A fixed number of locks that keys are hashed onto, for locking per entity without a lock per entity.
+ * Keys that are equal always get the same lock; different keys may share one.
+ *
+ * <pre>
+ * StripedLocks&lt;AutoCloseableLock&gt; locks = StripedLocks.lock(64);
+ * try (UncheckedAutoCloseable ignore = locks.get(userId).withLock()) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Locking a key allocates nothing. To lock several keys, use {@link #withAll(Iterable, Function)}, which takes the locks in
+ * stripe order, so two threads locking overlapping sets of keys can not deadlock.
+ */
+public final class StripedLocks<L> {
+
+    private final Object[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes The number of locks, rounded up to a power of two
+     */
+    public static StripedLocks<AutoCloseableLock> lock(int stripes) {
+        return new StripedLocks<>(stripes, i -> new AutoCloseableLock(new ReentrantLock()));
+    }
+
+    /**
+     * Like {@link #lock(int)}, with all the stripes reporting to {@link LockMonitor#global()} under the name
+     */
+    public static StripedLocks<AutoCloseableLock> instrumentedLock(int stripes, String name) {
+        return new StripedLocks<>(stripes, i -> Locks.instrumented(name, new ReentrantLock()));
+    }
+
+    public static StripedLocks<AutoCloseableReadWriteLock> readWriteLock(int stripes) {
+        return new StripedLocks<>(stripes, i -> new AutoCloseableReadWriteLock(new ReentrantReadWriteLock()));
+    }
+
+    public static StripedLocks<AutoCloseableStampedLock> stampedLock(int stripes) {
+        return new StripedLocks<>(stripes, i -> new AutoCloseableStampedLock(new StampedLock()));
+    }
+
+    private StripedLocks(int stripes, IntFunction<L> factory) {
+        Preconditions.checkArgument(stripes > 0 && stripes <= 1 << 30, "stripes %s is not in [1, 2^30]", stripes);
+        this.locks = new Object[IntMath.ceilingPowerOfTwo(stripes)];
+        this.mask = locks.length - 1;
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = factory.apply(i);
+        }
+    }
+
+    public L get(Object key) {
+        return getAt(indexOf(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    public L getAt(int index) {
+        return (L) locks[index];
+    }
+
+    /**
+     * @return The index of the lock of the key, in [0, size())
+     */
+    public int indexOf(Object key) {
+        // The hash codes of small integers and similar strings differ in the low bits only, spread them first
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public int size() {
+        return locks.length;
+    }
+
+    /**
+     * @return The distinct locks of the keys, in stripe order
+     */
+    public List<L> bulkGet(Iterable<?> keys) {
+        BitSet indexes = new BitSet(locks.length);
+        for (Object key : keys) {
+            indexes.set(indexOf(key));
+        }
+        List<L> result = new ArrayList<>(indexes.cardinality());
+        for (int i = indexes.nextSetBit(0); i >= 0; i = indexes.nextSetBit(i + 1)) {
+            result.add(getAt(i));
+        }
+        return result;
+    }
+
+    /**
+     * Acquire the locks of all the keys in stripe order, e.g. {@code withAll(keys, AutoCloseableReadWriteLock::withWrite)}.
+     * If an acquisition fails, the locks acquired so far are released.
+     *
+     * @param acquire Acquires one lock
+     * @return Releases the locks in reverse order
+     */
+    public UncheckedAutoCloseable withAll(Iterable<?> keys, Function<? super L, ? extends UncheckedAutoCloseable> acquire) {
+        List<L> locks = bulkGet(keys);
+        UncheckedAutoCloseable[] acquired = new UncheckedAutoCloseable[locks.size()];
+        int count = 0;
+        try {
+            for (L lock : locks) {
+                acquired[count] = acquire.apply(lock);
+                count++;
+            }
+        } catch (Throwable throwable) {
+            release(acquired, count);
+            throw Lombok.sneakyThrow(throwable);
+        }
+        int total = count;
+        return () -> release(acquired, total);
+    }
+
+    private static void release(UncheckedAutoCloseable[] acquired, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            acquired[i].close();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.basetools.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheStats;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class MemoizedFunctionTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    void memoize() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<Integer, String> memoized = ServiceInvokes.memoize(i -> {
+            calls.incrementAndGet();
+            return "v" + i;
+        }, 100);
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 50; i++) {
+                assertEquals("v" + i, memoized.apply(i));
+            }
+        }
+        assertEquals(50, calls.get());
+        CacheStats stats = memoized.stats();
+        assertEquals(100, stats.hitCount());
+        assertEquals(50, stats.missCount());
+        assertEquals(2.0 / 3, stats.hitRate(), 1e-9);
+
+        memoized.invalidate(1);
+        memoized.apply(1);
+        assertEquals(51, calls.get());
+        memoized.invalidateAll();
+        assertEquals(0, memoized.size());
+    }
+
+    @Test
+    void bounded() {
+        MemoizedFunction<Integer, Integer> memoized = ServiceInvokes.memoize(i -> i, 100);
+        for (int i = 0; i < 10_000; i++) {
+            memoized.apply(i);
+            assertTrue(memoized.size() <= 100);
+        }
+        assertEquals(9_900, memoized.stats().evictionCount());
+    }
+
+    @Test
+    void frequentKeysSurviveScan() {
+        MemoizedFunction<Integer, Integer> memoized = ServiceInvokes.memoize(i -> i, 100);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 50; i++) {
+                memoized.apply(i);
+            }
+        }
+        for (int i = 1000; i < 100_000; i++) {
+            memoized.apply(i);
+        }
+        long misses = memoized.stats().missCount();
+        for (int i = 0; i < 50; i++) {
+            memoized.apply(i);
+        }
+        // An LRU would have lost all of them
+        assertTrue(memoized.stats().missCount() - misses < 5);
+    }
+
+    @Test
+    void expire() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<String, Integer> memoized = new MemoizedFunction<>(k -> calls.incrementAndGet(), 10,
+            TimeUnit.SECONDS.toNanos(1), ticker);
+        assertEquals(1, (int) memoized.apply("a"));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertEquals(1, (int) memoized.apply("a"));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(2, (int) memoized.apply("a"));
+        assertEquals(1, memoized.size());
+    }
+
+    @Test
+    void failure() {
+        AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<String, Integer> memoized = ServiceInvokes.memoize(k -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return calls.get();
+        }, 10);
+        assertThrows(IllegalStateException.class, () -> memoized.apply("a"));
+        assertEquals(2, (int) memoized.apply("a"));
+        assertEquals(1, memoized.stats().loadExceptionCount());
+    }
+
+    @Test
+    void singleFlight() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemoizedFunction<String, Integer> memoized = ServiceInvokes.memoize(k -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 42;
+        }, 10);
+
+        AtomicInteger results = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> results.addAndGet(memoized.apply("hot"))));
+        }
+        threads.forEach(Thread::start);
+        loading.await();
+        Thread.sleep(50);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(8 * 42, results.get());
+    }
+}
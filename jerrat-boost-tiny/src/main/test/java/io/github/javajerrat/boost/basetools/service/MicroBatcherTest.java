@@ -0,0 +1,140 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.basetools.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class MicroBatcherTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    @AfterEach
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void batchBySize() {
+        List<List<Integer>> calls = new ArrayList<>();
+        MicroBatcher<Integer, String> batcher = MicroBatcher.of(keys -> {
+            calls.add(keys);
+            return CompletableFuture.completedFuture(keys.stream().filter(k -> k != 3).collect(Collectors.toMap(k -> k, k -> "v" + k)));
+        }, scheduler, MicroBatcher.Config.of().maxBatchSize(4).maxDelayMicros(TimeUnit.HOURS.toMicros(1)));
+
+        List<CompletableFuture<String>> futures = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            futures.add(batcher.submit(i % 5));
+        }
+        assertEquals(2, calls.size());
+        assertEquals(4, calls.get(0).size());
+        assertEquals("v0", futures.get(0).join());
+        assertNull(futures.get(3).join());
+        assertEquals("v1", futures.get(6).join());
+        assertEquals(1, batcher.pendingCalls());
+        batcher.flush();
+        assertEquals("v2", futures.get(7).join());
+        assertNull(futures.get(8).join());
+        assertEquals(3, batcher.batches());
+    }
+
+    @Test
+    void batchByTime() {
+        MicroBatcher<Integer, Integer> batcher = ServiceInvokes.batching(
+            keys -> keys.stream().collect(Collectors.toMap(k -> k, k -> k * 2)), 100, 20, TimeUnit.MILLISECONDS, scheduler);
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(batcher.submit(i));
+        }
+        assertEquals(18, batcher.get(9).intValue());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i * 2, futures.get(i).join().intValue());
+        }
+        assertEquals(1, batcher.batches());
+        assertEquals(10.0, batcher.averageBatchSize(), 1e-9);
+    }
+
+    @Test
+    void failure() {
+        MicroBatcher<Integer, Integer> batcher = MicroBatcher.of(keys -> {
+            throw new IllegalStateException();
+        }, scheduler, MicroBatcher.Config.of().maxBatchSize(2));
+        CompletableFuture<Integer> a = batcher.submit(1);
+        assertThrows(IllegalStateException.class, () -> batcher.get(2));
+        CompletionException e = assertThrows(CompletionException.class, a::join);
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void backpressure() {
+        List<CompletableFuture<Map<Integer, Integer>>> results = new ArrayList<>();
+        MicroBatcher<Integer, Integer> batcher = MicroBatcher.of(keys -> {
+            CompletableFuture<Map<Integer, Integer>> result = new CompletableFuture<>();
+            results.add(result);
+            return result;
+        }, scheduler, MicroBatcher.Config.of().maxBatchSize(1).maxInFlightBatches(2).maxPendingCalls(3));
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(batcher.submit(i));
+        }
+        assertEquals(2, results.size());
+        assertEquals(3, batcher.pendingCalls());
+        CompletionException e = assertThrows(CompletionException.class, () -> batcher.submit(5).join());
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+        results.get(0).complete(null);
+        assertEquals(3, results.size());
+        assertNull(futures.get(0).join());
+        assertEquals(2, batcher.pendingCalls());
+    }
+
+    @Test
+    void schedulerShutdown() {
+        List<List<Integer>> calls = new ArrayList<>();
+        ScheduledExecutorService stopped = Executors.newSingleThreadScheduledExecutor();
+        stopped.shutdown();
+        MicroBatcher<Integer, Integer> batcher = MicroBatcher.of(keys -> {
+            calls.add(new ArrayList<>(keys));
+            return CompletableFuture.completedFuture(keys.stream().collect(Collectors.toMap(k -> k, k -> k * 2)));
+        }, stopped, MicroBatcher.Config.of().maxBatchSize(10));
+
+        CompletableFuture<Integer> a = batcher.submit(1);
+        CompletableFuture<Integer> b = batcher.submit(2);
+        assertEquals(2, (int) a.join());
+        assertEquals(4, (int) b.join());
+        assertEquals(2, calls.size());
+        assertEquals(0, batcher.pendingCalls());
+    }
+}
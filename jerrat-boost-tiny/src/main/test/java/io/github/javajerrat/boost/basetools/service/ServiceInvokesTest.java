@@ -0,0 +1,262 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.basetools.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import io.github.javajerrat.boost.basetools.service.ServiceInvokes.Debouncer;
+import io.github.javajerrat.boost.basetools.service.ServiceInvokes.RateLimitedSupplier;
+import io.github.javajerrat.boost.basetools.service.ServiceInvokes.ThrottledSupplier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class ServiceInvokesTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private void sleep(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void throttle() {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> throttled = new ThrottledSupplier<>(calls::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(100), ticker);
+        assertEquals(1, (int) throttled.get());
+        sleep(99);
+        assertEquals(1, (int) throttled.get());
+        sleep(1);
+        assertEquals(2, (int) throttled.get());
+        assertEquals(2, (int) throttled.get());
+
+        Supplier<Integer> failing = ServiceInvokes.throttle(() -> {
+            throw new IllegalStateException();
+        }, 1, TimeUnit.HOURS);
+        assertThrows(IllegalStateException.class, failing::get);
+        assertThrows(IllegalStateException.class, failing::get);
+    }
+
+    @Test
+    void throttleConcurrently() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<Integer> throttled = new ThrottledSupplier<>(() -> {
+            int call = calls.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            return call;
+        }, TimeUnit.MILLISECONDS.toNanos(100), ticker);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // The ticker does not move during a round, so each round is one window, including the first one without a value
+            for (int round = 1; round <= 50; round++) {
+                CyclicBarrier start = new CyclicBarrier(threads);
+                List<Future<Integer>> values = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    values.add(executor.submit(() -> {
+                        start.await();
+                        return throttled.get();
+                    }));
+                }
+                for (Future<Integer> value : values) {
+                    value.get();
+                }
+                assertEquals(round, calls.get(), "at most one call per window");
+                assertEquals(round, (int) throttled.get());
+                nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void rateLimited() {
+        AtomicInteger calls = new AtomicInteger();
+        long interval = TimeUnit.MILLISECONDS.toNanos(100);
+        Supplier<Integer> limited = new RateLimitedSupplier<>(calls::incrementAndGet, () -> -1, interval, 10 * interval, ticker);
+        for (int i = 1; i <= 10; i++) {
+            assertEquals(i, (int) limited.get());
+        }
+        assertEquals(-1, (int) limited.get());
+        sleep(100);
+        assertEquals(11, (int) limited.get());
+        assertEquals(-1, (int) limited.get());
+        sleep(10_000);
+        for (int i = 0; i < 10; i++) {
+            limited.get();
+        }
+        assertEquals(21, calls.get());
+        assertEquals(-1, (int) limited.get());
+
+        Supplier<String> rejecting = ServiceInvokes.rateLimited(() -> "ok", 0.5);
+        assertEquals("ok", rejecting.get());
+        assertThrows(RejectedExecutionException.class, rejecting::get);
+    }
+
+    /**
+     * Queues the scheduled tasks instead of running them, the test runs them after moving the ticker
+     */
+    private static class ManualScheduler extends ScheduledThreadPoolExecutor {
+
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        ManualScheduler() {
+            super(0);
+        }
+
+        @Override
+        public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+            if (isShutdown()) {
+                throw new RejectedExecutionException();
+            }
+            tasks.add(command);
+            return null;
+        }
+    }
+
+    @Test
+    void debounce() {
+        ManualScheduler scheduler = new ManualScheduler();
+        AtomicInteger runs = new AtomicInteger();
+        Runnable debounced = new Debouncer(runs::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(50), scheduler, ticker);
+        for (int i = 0; i < 10; i++) {
+            debounced.run();
+            sleep(10);
+        }
+        assertEquals(1, scheduler.tasks.size());
+
+        // Fires 50ms after the first call, but the last one was 10ms ago, so it waits again
+        scheduler.tasks.poll().run();
+        assertEquals(0, runs.get());
+        assertEquals(1, scheduler.tasks.size());
+        sleep(40);
+        scheduler.tasks.poll().run();
+        assertEquals(1, runs.get());
+        assertEquals(0, scheduler.tasks.size());
+
+        debounced.run();
+        sleep(50);
+        scheduler.tasks.poll().run();
+        assertEquals(2, runs.get());
+        assertEquals(0, scheduler.tasks.size());
+    }
+
+    @Test
+    void debounceRejected() {
+        ManualScheduler scheduler = new ManualScheduler();
+        AtomicInteger runs = new AtomicInteger();
+        Runnable debounced = new Debouncer(runs::incrementAndGet, TimeUnit.MILLISECONDS.toNanos(50), scheduler, ticker);
+        debounced.run();
+        sleep(40);
+        debounced.run();
+        scheduler.shutdown();
+
+        // The timer can not wait again for the last call, so it runs at once
+        scheduler.tasks.poll().run();
+        assertEquals(1, runs.get());
+
+        // And later calls are not dropped
+        debounced.run();
+        assertEquals(2, runs.get());
+        debounced.run();
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void cachedAsync() {
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        RefreshingSupplier<Integer> cached = RefreshingSupplier.of(loads::incrementAndGet, tasks::add, RefreshingSupplier.Config.of()
+            .expireAfterMillis(100).refreshAheadRatio(0.2).jitterRatio(0).staleWhileRevalidateMillis(100).ticker(ticker));
+
+        assertEquals(1, (int) cached.get());
+        assertEquals(1, cached.misses());
+        sleep(79);
+        assertEquals(1, (int) cached.get());
+        assertEquals(0, tasks.size());
+
+        // Refresh ahead, the old value is served until the reload is done
+        sleep(1);
+        assertEquals(1, (int) cached.get());
+        assertEquals(1, (int) cached.get());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(2, (int) cached.get());
+        assertEquals(1, cached.refreshes());
+
+        // Stale while revalidate
+        sleep(150);
+        assertEquals(2, (int) cached.get());
+        assertEquals(1, cached.staleHits());
+        tasks.poll().run();
+        assertEquals(3, (int) cached.get());
+
+        // Too stale, load synchronously
+        sleep(1000);
+        assertEquals(4, (int) cached.get());
+        assertEquals(2, cached.misses());
+        assertEquals(5, cached.hits());
+        assertEquals(0, cached.refreshFailures());
+    }
+
+    @Test
+    void cachedAsyncFailure() {
+        AtomicInteger loads = new AtomicInteger();
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        RefreshingSupplier<Integer> cached = RefreshingSupplier.of(() -> {
+            if (loads.incrementAndGet() == 2) {
+                throw new IllegalStateException();
+            }
+            return loads.get();
+        }, tasks::add, RefreshingSupplier.Config.of().expireAfterMillis(100).jitterRatio(0).ticker(ticker));
+
+        assertEquals(1, (int) cached.get());
+        sleep(90);
+        assertEquals(1, (int) cached.get());
+        tasks.poll().run();
+        assertEquals(1, cached.refreshFailures());
+        assertEquals(1, (int) cached.get());
+        tasks.poll().run();
+        assertEquals(3, (int) cached.get());
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.basetools.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class SingleFlightTest {
+
+    @Test
+    void execute() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.of();
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        AtomicInteger starts = new AtomicInteger();
+        CompletableFuture<Integer> a = singleFlight.execute("k", () -> {
+            starts.incrementAndGet();
+            return source;
+        });
+        CompletableFuture<Integer> b = singleFlight.execute("k", () -> {
+            starts.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertNotSame(a, b);
+        assertEquals(1, singleFlight.inFlight());
+        source.complete(7);
+        assertEquals(7, (int) a.join());
+        assertEquals(7, (int) b.join());
+        assertEquals(1, starts.get());
+        assertEquals(0, singleFlight.inFlight());
+
+        singleFlight.execute("k", () -> CompletableFuture.completedFuture(8));
+        assertEquals(3, singleFlight.calls());
+        assertEquals(2, singleFlight.executions());
+        assertEquals(1, singleFlight.coalesced());
+    }
+
+    @Test
+    void cancel() {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.of();
+        CompletableFuture<Integer> source = new CompletableFuture<>();
+        CompletableFuture<Integer> a = singleFlight.execute("k", () -> source);
+        CompletableFuture<Integer> b = singleFlight.execute("k", () -> source);
+        a.cancel(true);
+        assertFalse(source.isCancelled());
+        b.cancel(true);
+        assertTrue(source.isCancelled());
+        assertEquals(0, singleFlight.inFlight());
+    }
+
+    @Test
+    void shareResult() {
+        AtomicLong nanos = new AtomicLong();
+        SingleFlight<String, Integer> singleFlight = SingleFlight.of(SingleFlight.Config.of().shareResultMillis(100).ticker(new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        }));
+        AtomicInteger starts = new AtomicInteger();
+        assertEquals(1, (int) singleFlight.call("k", starts::incrementAndGet));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertEquals(1, (int) singleFlight.call("k", starts::incrementAndGet));
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(2, (int) singleFlight.call("k", starts::incrementAndGet));
+
+        // Failures are not shared
+        assertThrows(IllegalStateException.class, () -> singleFlight.call("e", () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(3, (int) singleFlight.call("e", () -> 3));
+    }
+
+    @Test
+    void expiredResultsRemoved() {
+        AtomicLong nanos = new AtomicLong();
+        SingleFlight<String, Integer> singleFlight = SingleFlight.of(SingleFlight.Config.of().shareResultMillis(100).ticker(new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        }));
+        for (int i = 0; i < 100; i++) {
+            singleFlight.call("k" + i, () -> 1);
+        }
+        assertEquals(100, singleFlight.inFlight());
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(99));
+        assertEquals(100, singleFlight.inFlight());
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertEquals(0, singleFlight.inFlight());
+
+        // Only the expired results are removed, not the fresh ones or the calls in flight
+        for (int i = 0; i < 100; i++) {
+            singleFlight.call("k" + i, () -> 1);
+        }
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        singleFlight.call("other", () -> 2);
+        CompletableFuture<Integer> pending = singleFlight.execute("pending", CompletableFuture::new);
+        assertEquals(2, singleFlight.inFlight());
+        assertFalse(pending.isDone());
+    }
+
+    @Test
+    void call() throws InterruptedException {
+        SingleFlight<String, Integer> singleFlight = SingleFlight.of();
+        AtomicInteger starts = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger results = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(new Thread(() -> results.addAndGet(singleFlight.call("k", () -> {
+                starts.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return 5;
+            }))));
+        }
+        threads.get(0).start();
+        started.await();
+        threads.subList(1, threads.size()).forEach(Thread::start);
+        while (singleFlight.calls() < 8) {
+            Thread.sleep(1);
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, starts.get());
+        assertEquals(40, results.get());
+        assertEquals(7, singleFlight.coalesced());
+    }
+}
@@ -17,6 +17,8 @@ package io.github.javajerrat.boost.codec;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -30,4 +32,42 @@ class CodecsTest {
         System.out.println(Codecs.hex2Bytes("12345"));
         System.out.println(Codecs.hex2Bytes("12345z"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void byte2Hex() throws IOException {
+        byte[] bytes = {0, 1, 15, 16, 127, -128, -1};
+        assertEquals("00010f107f80ff", Codecs.byte2Hex(bytes));
+        assertEquals("0f107f", Codecs.byte2Hex(bytes, 2, 3));
+        assertEquals("", Codecs.byte2Hex(new byte[0]));
+        assertThrows(IndexOutOfBoundsException.class, () -> Codecs.byte2Hex(bytes, 5, 3));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        direct.position(1);
+        assertEquals("010f107f80ff", Codecs.byte2Hex(direct));
+        assertEquals(1, direct.position());
+        assertEquals("010f107f80ff", Codecs.byte2Hex(direct, new StringBuilder()).toString());
+        assertEquals("x0f10", Codecs.byte2Hex(bytes, 2, 2, new StringBuilder("x")).toString());
+    }
+
+    @Test
+    void hex2BytesRoundTrip() {
+        byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        String hex = Codecs.byte2Hex(bytes);
+        assertArrayEquals(bytes, Codecs.hex2Bytes(hex));
+        assertArrayEquals(bytes, Codecs.hex2Bytes(hex.toUpperCase()));
+        assertArrayEquals(new byte[]{0x12, 0x34}, Codecs.hex2Bytes("x1234y", 1, 5));
+        assertThrows(IllegalArgumentException.class, () -> Codecs.hex2Bytes("0g"));
+        assertThrows(IllegalArgumentException.class, () -> Codecs.hex2Bytes("-1"));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        assertEquals(bytes.length, Codecs.hex2Bytes(hex, direct));
+        direct.flip();
+        byte[] decoded = new byte[direct.remaining()];
+        direct.get(decoded);
+        assertArrayEquals(bytes, decoded);
+    }
+}
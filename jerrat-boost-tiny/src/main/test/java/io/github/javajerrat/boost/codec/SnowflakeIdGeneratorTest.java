@@ -0,0 +1,126 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    void uniqueAndMonotonicPerThread() throws InterruptedException {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.of(3);
+        Set<Long> all = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                long last = -1;
+                for (int i = 0; i < 50_000; i++) {
+                    long id = generator.nextId();
+                    assertTrue(id > last);
+                    last = id;
+                    all.add(id);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8 * 50_000, all.size());
+    }
+
+    @Test
+    void layout() {
+        long now = System.currentTimeMillis();
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.of(SnowflakeIdGenerator.Config.of()
+            .workerId(1000)
+            .clock(() -> now));
+        long id = generator.nextId();
+        assertTrue(id > 0);
+        assertEquals(now, generator.timestampOf(id));
+        assertEquals(1000, generator.workerIdOf(id));
+    }
+
+    @Test
+    void borrowAndClockRegression() {
+        AtomicLong clock = new AtomicLong(1_600_000_000_000L);
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.of(SnowflakeIdGenerator.Config.of()
+            .shardBits(0)
+            .clockBackwardToleranceMillis(3)
+            .maxClockWaitMillis(0)
+            .clock(clock::get));
+
+        // 4096 ids per millisecond: the second batch borrows the next millisecond
+        long[] ids = new long[4096];
+        generator.nextIds(ids);
+        long last = ids[ids.length - 1];
+        assertEquals(clock.get(), generator.timestampOf(last));
+        generator.nextIds(ids);
+        assertTrue(ids[0] > last);
+        assertEquals(clock.get() + 1, generator.timestampOf(ids[0]));
+
+        // Within the tolerance, a clock moving backwards keeps the ids increasing
+        clock.addAndGet(-1);
+        long id = generator.nextId();
+        assertTrue(id > ids[ids.length - 1]);
+
+        clock.addAndGet(-100);
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        clock.addAndGet(200);
+        assertTrue(generator.nextId() > id);
+    }
+
+    @Test
+    void batch() {
+        SnowflakeIdGenerator generator = SnowflakeIdGenerator.of(0);
+        long[] ids = new long[1000];
+        generator.nextIds(ids);
+        Set<Long> set = new HashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            set.add(ids[i]);
+            if (i > 0) {
+                assertTrue(ids[i] > ids[i - 1]);
+            }
+        }
+        assertEquals(ids.length, set.size());
+        assertTrue(generator.nextId() > ids[ids.length - 1]);
+    }
+
+    @Test
+    void illegalConfig() {
+        assertThrows(IllegalArgumentException.class, () -> SnowflakeIdGenerator.of(1024));
+        assertThrows(IllegalArgumentException.class,
+            () -> SnowflakeIdGenerator.of(SnowflakeIdGenerator.Config.of().timestampBits(42)));
+        assertThrows(IllegalArgumentException.class,
+            () -> SnowflakeIdGenerator.of(SnowflakeIdGenerator.Config.of().shardBits(12)));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.io.BaseEncoding;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class StreamingCodecTest {
+
+    private static final int[] SIZES = {0, 1, 2, 3, 4, 5, 6, 7, 57, 63, 64, 65, 1000, 8191, 8192, 8193, 100_000};
+
+    @Test
+    void encodeAsGuava() throws IOException {
+        Random random = new Random(42);
+        for (int size : SIZES) {
+            byte[] bytes = new byte[size];
+            random.nextBytes(bytes);
+
+            assertCodec(StreamingCodec.base64(), BaseEncoding.base64().encode(bytes), bytes);
+            assertCodec(StreamingCodec.base64Url(), BaseEncoding.base64Url().encode(bytes), bytes);
+            assertCodec(StreamingCodec.base64Url().omitPadding(), BaseEncoding.base64Url().omitPadding().encode(bytes), bytes);
+            assertCodec(StreamingCodec.base32(), BaseEncoding.base32().encode(bytes), bytes);
+            assertCodec(StreamingCodec.base32Hex(), BaseEncoding.base32Hex().encode(bytes), bytes);
+            assertCodec(StreamingCodec.hex(), Codecs.byte2Hex(bytes), bytes);
+            assertCodec(StreamingCodec.base64Mime(), Base64.getMimeEncoder().encodeToString(bytes), bytes);
+            assertCodec(StreamingCodec.base64().withBufferSize(64), BaseEncoding.base64().encode(bytes), bytes);
+            assertCodec(StreamingCodec.base64Mime().withBufferSize(100), Base64.getMimeEncoder().encodeToString(bytes), bytes);
+        }
+    }
+
+    @Test
+    void decodeLeniently() throws IOException {
+        assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), decode(StreamingCodec.base64(), "YWI"));
+        assertArrayEquals(new byte[]{(byte) 0xab, (byte) 0xcd}, decode(StreamingCodec.hex(), "ABcd"));
+        assertArrayEquals("ab".getBytes(StandardCharsets.US_ASCII), decode(StreamingCodec.base32(), "mfra===="));
+        assertArrayEquals("abc".getBytes(StandardCharsets.US_ASCII), decode(StreamingCodec.base64Mime(), "YW\r\nJj\n"));
+    }
+
+    @Test
+    void decodeIllegal() {
+        assertThrows(IOException.class, () -> decode(StreamingCodec.base64(), "YW\nJj"));
+        assertThrows(IOException.class, () -> decode(StreamingCodec.base64(), "Y"));
+        assertThrows(IOException.class, () -> decode(StreamingCodec.base64(), "YQ==YQ=="));
+        assertThrows(IOException.class, () -> decode(StreamingCodec.hex(), "abc"));
+        assertThrows(IOException.class, () -> decode(StreamingCodec.hex(), "0g"));
+    }
+
+    @Test
+    void channels() throws IOException {
+        byte[] bytes = new byte[20_000];
+        new Random(7).nextBytes(bytes);
+
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        long written = StreamingCodec.base32().encode(
+            Channels.newChannel(new ByteArrayInputStream(bytes)), Channels.newChannel(encoded));
+        assertEquals(BaseEncoding.base32().encode(bytes), new String(encoded.toByteArray(), StandardCharsets.US_ASCII));
+        assertEquals(encoded.size(), written);
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        StreamingCodec.base32().decode(
+            Channels.newChannel(new ByteArrayInputStream(encoded.toByteArray())), Channels.newChannel(decoded));
+        assertArrayEquals(bytes, decoded.toByteArray());
+    }
+
+    private static void assertCodec(StreamingCodec codec, String expected, byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = codec.encode(new ByteArrayInputStream(bytes), out);
+        assertEquals(expected, new String(out.toByteArray(), StandardCharsets.US_ASCII), codec + " " + bytes.length);
+        assertEquals(out.size(), written);
+        assertArrayEquals(bytes, decode(codec, expected), codec + " " + bytes.length);
+    }
+
+    private static byte[] decode(StreamingCodec codec, String text) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.decode(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)), out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.github.javajerrat.boost.codec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.BaseEncoding;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class UniqueIdsTest {
+
+    @Test
+    void ulid() {
+        long before = System.currentTimeMillis();
+        String last = UniqueIds.ulid();
+        for (int i = 0; i < 10_000; i++) {
+            String ulid = UniqueIds.ulid();
+            assertEquals(26, ulid.length());
+            assertTrue(ulid.matches("[0-9A-HJKMNP-TV-Z]{26}"), ulid);
+            assertTrue(ulid.compareTo(last) > 0);
+            last = ulid;
+        }
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = millis << 5 | "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(last.charAt(i));
+        }
+        assertTrue(millis >= before && millis <= System.currentTimeMillis());
+    }
+
+    @Test
+    void uuid7() {
+        long before = System.currentTimeMillis();
+        UUID last = UniqueIds.uuid7();
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = UniqueIds.uuid7();
+            assertEquals(7, uuid.version());
+            assertEquals(2, uuid.variant());
+            assertTrue(Long.compareUnsigned(uuid.getMostSignificantBits(), last.getMostSignificantBits()) > 0);
+            last = uuid;
+        }
+        long millis = last.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void compactUuids() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            UUID uuid = i == 0 ? new UUID(0, 0) : i == 1 ? new UUID(-1, -1) : UniqueIds.randomUuid(random);
+
+            String as32 = UniqueIds.uuidAs32(uuid);
+            assertEquals(uuid.toString().replace("-", ""), as32);
+            assertEquals(uuid, UniqueIds.parseUuidAs32(as32));
+            assertEquals(uuid, UniqueIds.parseUuidAs32(as32.toUpperCase()));
+
+            String as26 = UniqueIds.uuidAs26(uuid);
+            assertEquals(26, as26.length());
+            assertEquals(uuid.getMostSignificantBits(), Long.parseUnsignedLong(as26.substring(0, 13), 32));
+            assertEquals(uuid.getLeastSignificantBits(), Long.parseUnsignedLong(as26.substring(13), 32));
+            assertEquals(uuid, UniqueIds.parseUuidAs26(as26));
+
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+            String as22 = UniqueIds.uuidAs22(uuid);
+            assertEquals(BaseEncoding.base64Url().omitPadding().encode(buffer.array()), as22);
+            assertEquals(uuid, UniqueIds.parseUuidAs22(as22));
+        }
+    }
+
+    @Test
+    void compactUuidsFromRandom() {
+        UUID uuid = UniqueIds.randomUuid(ThreadLocalRandom.current());
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(4, UniqueIds.parseUuidAs32(UniqueIds.uuidAs32(ThreadLocalRandom.current())).version());
+        assertEquals(4, UniqueIds.parseUuidAs26(UniqueIds.uuidAs26(ThreadLocalRandom.current())).version());
+        assertEquals(4, UniqueIds.parseUuidAs22(UniqueIds.uuidAs22(ThreadLocalRandom.current())).version());
+        assertEquals(4, UniqueIds.parseUuidAs22(UniqueIds.uuidAs22()).version());
+    }
+
+    @Test
+    void parseIllegalUuids() {
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs32("0123"));
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs32("0123456789abcdef0123456789abcdeg"));
+        // The first digit of each half only holds 4 bits
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs26("g000000000000" + "0000000000000"));
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs26("0000000000000" + "000000000000w"));
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs22("AAAAAAAAAAAAAAAAAAAAA="));
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs22("AAAAAAAAAAAAAAAAAAAAAB"));
+        assertThrows(IllegalArgumentException.class, () -> UniqueIds.parseUuidAs22("AAAAAAAAAAAAAAAAAAAAA\u00e9"));
+    }
+}
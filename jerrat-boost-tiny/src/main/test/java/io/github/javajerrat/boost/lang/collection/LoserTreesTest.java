@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.github.javajerrat.boost.lang.collection.primitive.LongArrayList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class LoserTreesTest {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void mergeSortedView() {
+        // Every number of sources around the powers of two, since the tree is complete but not full for the others
+        for (int k = 0; k <= 17; k++) {
+            List<List<Long>> sources = randomSorted(k);
+            List<Long> expected = new ArrayList<>();
+            sources.forEach(expected::addAll);
+            Collections.sort(expected);
+            assertEquals(expected, MoreCollections.mergeSorted(sources, Long::compare), "k = " + k);
+            assertEquals(expected, MoreCollections.mergeSortedByLong(sources, Long::longValue), "k = " + k);
+
+            List<LongArrayList> longs = new ArrayList<>();
+            for (List<Long> source : sources) {
+                LongArrayList list = new LongArrayList();
+                source.forEach(list::add);
+                longs.add(list);
+            }
+            assertEquals(expected, MoreCollections.mergeSortedLongs(longs).asList(), "k = " + k);
+        }
+    }
+
+    @Test
+    void stable() {
+        List<List<String>> sources = Arrays.asList(
+            Arrays.asList("a1", "b1", "b1'", "c1"),
+            Collections.emptyList(),
+            Arrays.asList("b2", "c2"),
+            Arrays.asList("a3", "c3"));
+        Comparator<String> byLetter = Comparator.comparing(s -> s.charAt(0));
+        assertEquals(Arrays.asList("a1", "a3", "b1", "b1'", "b2", "c1", "c2", "c3"), MoreCollections.mergeSorted(sources, byLetter));
+        assertEquals(Arrays.asList("a1", "a3", "b1", "b1'", "b2", "c1", "c2", "c3"),
+            MoreCollections.mergeSortedByLong(sources, s -> s.charAt(0)));
+        assertFalse(MoreCollections.mergeSortedView(Collections.<List<String>>emptyList(), byLetter).iterator().hasNext());
+    }
+
+    private List<List<Long>> randomSorted(int k) {
+        List<List<Long>> sources = new ArrayList<>();
+        for (int i = 0; i < k; i++) {
+            List<Long> source = new ArrayList<>();
+            int size = random.nextInt(50);
+            for (int j = 0; j < size; j++) {
+                source.add((long) random.nextInt(100) - 50);
+            }
+            Collections.sort(source);
+            sources.add(source);
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class ParallelCollectionsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    /**
+     * Small chunks, so that even the test data is split into many tasks
+     */
+    private final ParallelCollections.Config config = ParallelCollections.Config.of().pool(pool).threshold(1000).minChunkSize(100);
+
+    private final List<Integer> list = IntStream.range(0, 100_000).map(i -> (i * 7919) % 100_003).boxed().collect(Collectors.toList());
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void groupBy() {
+        Function<Integer, Integer> key = i -> i % 97;
+        Map<Integer, List<Integer>> expected = MoreCollections.groupBy(list, key);
+        Map<Integer, List<Integer>> actual = ParallelCollections.groupBy(list, key, config);
+        assertEquals(expected, actual);
+        // The order of the keys is the order of their first occurrence, like in the sequential version
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+
+        assertEquals(MoreCollections.groupBy(list, key, i -> i * 2), ParallelCollections.groupBy(list, key, i -> i * 2, config));
+        assertEquals(expected, ParallelCollections.groupBy(new LinkedList<>(list), key, config));
+    }
+
+    @Test
+    void countBy() {
+        Function<Integer, Integer> key = i -> i % 10;
+        assertEquals(MoreCollections.countBy(list, key), ParallelCollections.countBy(list, key, config));
+    }
+
+    @Test
+    void keyBy() {
+        Function<Integer, Integer> key = i -> i % 1000;
+        Map<Integer, Integer> expected = MoreCollections.keyBy(list, key);
+        Map<Integer, Integer> actual = ParallelCollections.keyBy(list, key, config);
+        assertEquals(expected, actual);
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+    }
+
+    @Test
+    void invertBy() {
+        Map<Integer, Integer> map = new LinkedHashMap<>();
+        for (Integer i : list) {
+            map.put(i, i % 13);
+        }
+        Function<Integer, Boolean> even = i -> i % 2 == 0;
+        assertEquals(MoreCollections.invertBy(map, even), ParallelCollections.invertBy(map, even, config));
+    }
+
+    @Test
+    void isDistinct() {
+        assertTrue(ParallelCollections.isDistinct(list, Function.identity(), config));
+        assertFalse(ParallelCollections.isDistinct(list, i -> i % 50_000, config));
+        List<Integer> duplicated = new ArrayList<>(list);
+        duplicated.add(list.get(0));
+        assertFalse(ParallelCollections.isDistinct(duplicated, Function.identity(), config));
+        assertTrue(ParallelCollections.isDistinct(list.subList(0, 10), Function.identity(), config));
+
+        // Null is a key like any other, as in the sequential version
+        List<Integer> withNull = new ArrayList<>(list);
+        withNull.set(list.size() / 2, null);
+        assertTrue(ParallelCollections.isDistinct(withNull, Function.identity(), config));
+        withNull.set(list.size() / 3, null);
+        assertFalse(ParallelCollections.isDistinct(withNull, Function.identity(), config));
+        assertFalse(ParallelCollections.isDistinct(list, i -> i % 2 == 0 ? null : i, config));
+    }
+
+    @Test
+    void mergeSorted() {
+        // Pairs of (key, shard), sorted by key only, so that the order of equal keys shows whether the merge is stable
+        List<List<int[]>> shards = new ArrayList<>();
+        for (int shard = 0; shard < 37; shard++) {
+            List<int[]> sorted = new ArrayList<>();
+            for (int i = 0; i < list.size() / 37; i++) {
+                sorted.add(new int[]{list.get(i * 37 + shard) % 5000, shard});
+            }
+            sorted.sort(Comparator.comparingInt(pair -> pair[0]));
+            shards.add(shard % 3 == 0 ? new LinkedList<>(sorted) : sorted);
+        }
+        shards.add(new ArrayList<>());
+        Comparator<int[]> byKey = Comparator.comparingInt(pair -> pair[0]);
+        List<int[]> expected = MoreCollections.mergeSorted(shards, byKey);
+        List<int[]> actual = ParallelCollections.mergeSorted(shards, byKey, config);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i) == actual.get(i), "at " + i);
+        }
+    }
+}
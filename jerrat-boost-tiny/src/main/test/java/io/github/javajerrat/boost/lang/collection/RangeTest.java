@@ -15,6 +15,7 @@
 package io.github.javajerrat.boost.lang.collection;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -22,6 +23,7 @@ import com.google.common.collect.Lists;
 import io.github.javajerrat.boost.lang.collection.lazy.Range;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -89,6 +91,42 @@ class RangeTest {
         assertEquals(3, Range.range(7, 2, -2).size());
     }
 
+    @Test
+    void negativeStep() {
+        assertRange(Colls.listOf(7L, 5L, 3L), Range.range(7, 2, -2));
+        assertRange(Colls.listOf(-1L, -2L), Range.range(-1, -3, -1));
+        assertEquals(Colls.listOf(7L, 5L, 3L), Range.range(7, 2, -2).longStream().boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void longRanges() {
+        Range range = Range.range(0, 3L << 32);
+        assertEquals(3L << 32, range.longSize());
+        assertEquals(Integer.MAX_VALUE, range.size());
+        assertEquals((3L << 32) - 1, range.getLong(range.longSize() - 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> range.getLong(3L << 32));
+
+        Range wide = Range.range(Long.MIN_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals(Long.MIN_VALUE + Integer.MAX_VALUE, wide.getLong(1));
+        assertTrue(wide.contains(Long.MIN_VALUE + 2L * Integer.MAX_VALUE));
+        assertFalse(wide.contains(Long.MIN_VALUE + 1));
+        assertThrows(IllegalArgumentException.class, () -> Range.range(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        assertEquals(1_000_000, Range.range(0, 1_000_000_000L, 1000).longStream().parallel().count());
+        long n = 10_000_000;
+        assertEquals(n * (n - 1) / 2, Range.range(0, n).longStream().parallel().sum());
+    }
+
+    @Test
+    void contains() {
+        Range range = Range.range(10, 0, -3);
+        assertTrue(range.contains(10L));
+        assertTrue(range.contains(1L));
+        assertFalse(range.contains(-2L));
+        assertFalse(range.contains(9L));
+        assertFalse(range.contains(10));
+    }
+
     @Test
     void testEquals() {
         {
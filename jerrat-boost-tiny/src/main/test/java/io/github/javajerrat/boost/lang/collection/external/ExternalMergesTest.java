@@ -0,0 +1,149 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class ExternalMergesTest {
+
+    private final File directory = Files.createTempDirectory("external-merges-test").toFile();
+
+    ExternalMergesTest() throws IOException {
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        MoreFiles.deleteRecursively(directory.toPath(), RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+
+    @Test
+    void mergeSorted() {
+        Random random = new Random(42);
+        List<List<String>> shards = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int shard = 0; shard < 23; shard++) {
+            List<String> sorted = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                sorted.add(Integer.toString(random.nextInt(10_000)));
+            }
+            Collections.sort(sorted);
+            shards.add(sorted);
+            expected.addAll(sorted);
+        }
+        Collections.sort(expected);
+
+        // Counts the shards being read at the same time
+        AtomicInteger open = new AtomicInteger();
+        AtomicInteger maxOpen = new AtomicInteger();
+        List<Iterable<String>> counted = new ArrayList<>();
+        for (List<String> shard : shards) {
+            counted.add(() -> {
+                maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+                return new CountingIterator(shard, open);
+            });
+        }
+
+        ExternalMerges.Config config = ExternalMerges.Config.of().tempDirectory(directory).fanIn(4).bufferSize(256);
+        try (SortedRuns<String> runs = ExternalMerges.mergeSorted(counted, String::compareTo, Serializers.strings(), config)) {
+            assertTrue(runs.runCount() <= 4);
+            // Only the runs of the last level are left
+            assertEquals(runs.runCount(), directory.list().length);
+            assertEquals(expected, runs.elements().toList());
+            assertEquals(expected, runs.elements().toList());
+            assertTrue(maxOpen.get() <= 4, "at most fanIn shards are read at once, not " + maxOpen.get());
+        }
+        assertEquals(0, directory.list().length);
+    }
+
+    @Test
+    void partialTraversals() {
+        List<List<Long>> shards = new ArrayList<>();
+        for (long shard = 0; shard < 10; shard++) {
+            List<Long> sorted = new ArrayList<>();
+            for (long i = 0; i < 100; i++) {
+                sorted.add(i * 10 + shard);
+            }
+            shards.add(sorted);
+        }
+        ExternalMerges.Config config = ExternalMerges.Config.of().tempDirectory(directory).fanIn(4).bufferSize(256);
+        SortedRuns<Long> runs = ExternalMerges.mergeSorted(shards, Long::compare, Serializers.longs(), config);
+        try {
+            for (int i = 0; i < 200; i++) {
+                assertEquals(0L, (long) runs.elements().first());
+            }
+            assertEquals(Arrays.asList(0L, 1L, 2L), runs.elements().limit(3).toList());
+            assertThrows(IllegalStateException.class, () -> runs.elements().forEach(e -> {
+                if (e == 500) {
+                    throw new IllegalStateException();
+                }
+            }));
+            assertEquals(202 * runs.runCount(), runs.openStreams());
+            assertEquals(1000, runs.elements().count());
+            assertEquals(202 * runs.runCount(), runs.openStreams(), "a full traversal closes its files");
+        } finally {
+            runs.close();
+        }
+        assertEquals(0, runs.openStreams());
+        assertEquals(0, directory.list().length);
+    }
+
+    private static class CountingIterator implements Iterator<String> {
+
+        private final Iterator<String> delegate;
+        private final AtomicInteger open;
+        private boolean closed;
+
+        CountingIterator(List<String> list, AtomicInteger open) {
+            this.delegate = list.iterator();
+            this.open = open;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = delegate.hasNext();
+            if (!hasNext && !closed) {
+                closed = true;
+                open.decrementAndGet();
+            }
+            return hasNext;
+        }
+
+        @Override
+        public String next() {
+            return delegate.next();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection.external;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+import io.github.javajerrat.boost.lang.collection.MoreCollections;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class ExternalSortsTest {
+
+    private final File directory = Files.createTempDirectory("external-sorts-test").toFile();
+
+    /**
+     * Small runs and fan-in, so that the test data is spilled and merged in two levels
+     */
+    private final ExternalSorts.Config config = ExternalSorts.Config.of().tempDirectory(directory).runSize(100).fanIn(4).bufferSize(256);
+
+    private final List<Order> orders;
+
+    ExternalSortsTest() throws IOException {
+        Random random = new Random(42);
+        orders = IntStream.range(0, 3000).mapToObj(i -> new Order(i, "user-" + random.nextInt(50), random.nextInt(1000)))
+            .collect(Collectors.toList());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        MoreFiles.deleteRecursively(directory.toPath(), RecursiveDeleteOption.ALLOW_INSECURE);
+    }
+
+    @Test
+    void sort() {
+        Comparator<Order> byAmount = Comparator.comparingInt(order -> order.amount);
+        List<Order> expected = new ArrayList<>(orders);
+        expected.sort(byAmount);
+        SortedRuns<Order> sorted = ExternalSorts.sort(orders, byAmount, Serializers.jackson(Order.class), config);
+        try {
+            assertTrue(sorted.runCount() <= 4);
+            // Only the runs of the last level are left
+            assertEquals(sorted.runCount(), directory.list().length);
+            // Stable, the orders of equal amounts keep their input order
+            assertEquals(expected, sorted.elements().toList());
+            assertEquals(0, sorted.openStreams());
+            // Stops before the end of the runs, so their files stay open until close
+            assertEquals(expected.subList(0, 10), sorted.elements().limit(10).toList());
+            assertEquals(sorted.runCount(), sorted.openStreams());
+        } finally {
+            sorted.close();
+        }
+        assertEquals(0, sorted.openStreams());
+        assertEquals(0, directory.list().length);
+
+        // A comparator that fails while the input is sorted, after some runs are spilled
+        Comparator<Order> failing = (a, b) -> {
+            if (a.id >= 2950 || b.id >= 2950) {
+                throw new IllegalStateException();
+            }
+            return byAmount.compare(a, b);
+        };
+        assertThrows(IllegalStateException.class, () -> ExternalSorts.sort(orders, failing, Serializers.jackson(Order.class), config));
+        assertEquals(0, directory.list().length);
+
+        try (SortedRuns<Long> small = ExternalSorts.sort(MoreCollections.arrayListOf(3L, 1L, 2L), Long::compare, Serializers.longs(), config)) {
+            assertEquals(MoreCollections.arrayListOf(1L, 2L, 3L), small.elements().toList());
+            assertEquals(0, directory.list().length);
+        }
+    }
+
+    @Test
+    void groupBy() {
+        Map<String, List<Order>> expected = new LinkedHashMap<>();
+        orders.stream().sorted(Comparator.comparing(order -> order.user))
+            .forEach(order -> expected.computeIfAbsent(order.user, user -> new ArrayList<>()).add(order));
+        SortedGroups<String, Order> groups = ExternalSorts.groupBy(orders, order -> order.user, String::compareTo,
+            Serializers.jackson(Order.class), config);
+        try {
+            Map<String, List<Order>> actual = new LinkedHashMap<>();
+            groups.groups().forEach(group -> actual.put(group.getKey(), group.getValue()));
+            assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(actual.entrySet()));
+            assertEquals(0, groups.openStreams());
+            assertEquals(expected.keySet().iterator().next(), groups.groups().first().getKey());
+            assertTrue(groups.openStreams() > 0);
+        } finally {
+            groups.close();
+        }
+        assertEquals(0, groups.openStreams());
+        assertEquals(0, directory.list().length);
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    static class Order {
+
+        private long id;
+        private String user;
+        private int amount;
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection.iterable;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import io.github.javajerrat.boost.lang.collection.Lazys;
+import io.github.javajerrat.boost.lang.collection.lazy.Range;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class FIterableTest {
+
+    private final List<Integer> numbers = Arrays.asList(5, 3, 8, 3, 1, 9, 5, 2, 7);
+
+    @Test
+    void fusedStages() {
+        FIterable<String> pipeline = FIterable.from(numbers)
+            .filter(i -> i > 1)
+            .distinct()
+            .transform(i -> "#" + i)
+            .limit(4);
+        List<String> expected = numbers.stream().filter(i -> i > 1).distinct().map(i -> "#" + i).limit(4).collect(Collectors.toList());
+        assertEquals(expected, pipeline.toList());
+        // Every run starts again from the source, with fresh state for distinct and limit
+        assertEquals(expected, pipeline.toList());
+        assertEquals(expected, Lists.newArrayList(pipeline.iterator()));
+        assertEquals(expected, pipeline.stream().collect(Collectors.toList()));
+        assertEquals("#5", pipeline.first());
+        assertEquals(expected.get(expected.size() - 1), pipeline.last());
+        assertEquals(4, pipeline.count());
+        assertEquals(expected.toString(), pipeline.toString());
+        assertEquals(String.join("", expected), pipeline.reduce("", String::concat));
+    }
+
+    @Test
+    void shortCircuit() {
+        AtomicInteger pulled = new AtomicInteger();
+        Iterable<Integer> infinite = () -> Stream.iterate(0, i -> i + 1).peek(i -> pulled.incrementAndGet()).iterator();
+
+        assertEquals(Arrays.asList(0, 2, 4), FIterable.from(infinite).filter(i -> i % 2 == 0).limit(3).toList());
+        assertEquals(5, pulled.get());
+
+        pulled.set(0);
+        assertEquals(Arrays.asList(0, 1, 2), FIterable.from(infinite).takeWhile(i -> i < 3).toList());
+        assertEquals(4, pulled.get());
+
+        pulled.set(0);
+        assertTrue(FIterable.from(infinite).transform(i -> i * 3).anyMatch(i -> i == 9));
+        assertEquals(4, pulled.get());
+
+        pulled.set(0);
+        Iterator<Integer> it = FIterable.from(infinite).filter(i -> i > 10).iterator();
+        assertEquals(11, (int) it.next());
+        assertEquals(12, pulled.get());
+
+        assertTrue(FIterable.from(infinite).limit(0).isEmpty());
+        assertFalse(FIterable.from(numbers).filter(i -> i > 8).isEmpty());
+        assertNull(FIterable.from(numbers).filter(i -> i > 9).first());
+    }
+
+    @Test
+    void primitiveStages() {
+        FIntIterable ints = FIterable.from(new LinkedList<>(numbers)).mapToInt(Integer::intValue).filter(i -> i % 2 == 1).map(i -> i * 10);
+        assertArrayEquals(new int[]{50, 30, 30, 10, 90, 50, 70}, ints.toArray());
+        assertEquals(330, ints.sum());
+        assertEquals(7, ints.count());
+        assertEquals(10, ints.min().getAsInt());
+        assertEquals(90, ints.max().getAsInt());
+        assertEquals(Arrays.asList(50, 30), ints.limit(2).boxed().toList());
+        assertFalse(ints.filter(i -> i > 100).max().isPresent());
+
+        FLongIterable longs = Lazys.range(0, 5).stream().collect(Collectors.collectingAndThen(Collectors.toList(), FIterable::from))
+            .mapToLong(Long::longValue)
+            .map(i -> i << 40);
+        assertEquals(10L << 40, longs.sum());
+        assertEquals(Arrays.asList("0", "1099511627776"), longs.limit(2).mapToObj(Long::toString).toList());
+        assertEquals(5, Iterables.size(longs.boxed()));
+    }
+
+    @Test
+    void spliterators() {
+        List<Integer> list = new ArrayList<>(numbers);
+        Spliterator<String> transformed = FIterable.from(list).transform(i -> "#" + i).spliterator();
+        assertTrue(transformed.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(numbers.size(), transformed.getExactSizeIfKnown());
+        Spliterator<String> prefix = transformed.trySplit();
+        assertEquals(numbers.size(), prefix.getExactSizeIfKnown() + transformed.getExactSizeIfKnown());
+
+        Spliterator<Integer> filtered = FIterable.from(list).filter(i -> i > 3).spliterator();
+        assertFalse(filtered.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(filtered.trySplit() != null);
+        assertNull(FIterable.from(list).filter(i -> i > 3).distinct().spliterator().trySplit());
+
+        FIterable<Long> squares = FIterable.from(Lazys.range(0, 100_000)).transform(i -> i * i);
+        assertEquals(100_000, squares.spliterator().getExactSizeIfKnown());
+        assertEquals(squares.stream().mapToLong(Long::longValue).sum(), squares.parallelStream().mapToLong(Long::longValue).sum());
+        assertEquals(squares.toList(), squares.parallelStream().collect(Collectors.toList()));
+        assertEquals(FIterable.from(list).filter(i -> i > 1).distinct().limit(4).toList(),
+            FIterable.from(list).filter(i -> i > 1).distinct().limit(4).parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelForEach() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Set<Thread> threads = ConcurrentHashMap.newKeySet();
+            AtomicLong sum = new AtomicLong();
+            FIterable.from(Lazys.range(0, 1_000_000)).filter(i -> i % 3 == 0).transform(i -> i * 2).parallelForEach(pool, i -> {
+                threads.add(Thread.currentThread());
+                sum.addAndGet(i);
+            });
+            assertEquals(Lazys.range(0, 1_000_000).longStream().filter(i -> i % 3 == 0).map(i -> i * 2).sum(), sum.get());
+            assertTrue(threads.stream().allMatch(thread -> thread.getName().contains("ForkJoinPool")));
+
+            List<Integer> limited = new ArrayList<>();
+            FIterable.from(numbers).limit(3).parallelForEach(pool, limited::add);
+            assertEquals(numbers.subList(0, 3), limited);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void cached() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        FIterable<Integer> cached = FIterable.from(Lazys.range(0, 1000)).transform(i -> {
+            calls.incrementAndGet();
+            return (int) (i * 3);
+        }).cached();
+        assertEquals(0, calls.get());
+
+        // Only as far as the first traversal goes, later ones continue from there
+        assertEquals(Arrays.asList(0, 3, 6), cached.limit(3).toList());
+        assertEquals(3, calls.get());
+        List<Integer> expected = FIterable.from(Lazys.range(0, 1000)).transform(i -> (int) (i * 3)).toList();
+        assertEquals(expected, cached.toList());
+        assertEquals(expected, cached.filter(i -> true).toList());
+        assertEquals(1000, calls.get());
+        assertTrue(cached == cached.cached());
+
+        calls.set(0);
+        FIterable<Integer> shared = FIterable.from(Lazys.range(0, 100_000)).transform(i -> {
+            calls.incrementAndGet();
+            return (int) (long) i;
+        }).cached();
+        int readers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> sums = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                sums.add(executor.submit(() -> {
+                    start.await();
+                    return shared.mapToInt(Integer::intValue).sum();
+                }));
+            }
+            start.countDown();
+            for (Future<Long> sum : sums) {
+                assertEquals(100_000L * 99_999 / 2, (long) sum.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(100_000, calls.get());
+    }
+
+    /**
+     * Like a {@link Range} longer than Integer.MAX_VALUE: the size is capped, the iterator is not
+     */
+    private static class CappedSizeList extends AbstractList<Integer> implements RandomAccess {
+
+        private final List<Integer> elements;
+
+        CappedSizeList(List<Integer> elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public int size() {
+            return elements.size() / 2;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return elements.iterator();
+        }
+    }
+
+    @Test
+    void sourcesReadByTheirIterator() {
+        List<Integer> capped = new CappedSizeList(numbers);
+        assertEquals(numbers, FIterable.from(capped).transform(i -> i).toList());
+        assertEquals(7, (int) FIterable.from(capped).transform(i -> i).last());
+
+        // The iterator of a CopyOnWriteArrayList reads a snapshot, so the run is not affected by changes to the list
+        List<Integer> list = new CopyOnWriteArrayList<>(numbers);
+        List<Integer> seen = new ArrayList<>();
+        FIterable.from(list).filter(i -> i > 0).forEach(i -> {
+            list.clear();
+            seen.add(i);
+        });
+        assertEquals(numbers, seen);
+    }
+}
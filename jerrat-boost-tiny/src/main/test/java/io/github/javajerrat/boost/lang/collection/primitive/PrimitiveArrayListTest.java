@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class PrimitiveArrayListTest {
+
+    @Test
+    void intArrayList() {
+        IntArrayList list = IntArrayList.of(3, 1, 2);
+        list.add(5);
+        list.add(0, 4);
+        assertEquals("[4, 3, 1, 2, 5]", list.toString());
+        assertEquals(5, list.size());
+        assertEquals(3, list.get(1));
+        assertEquals(3, list.set(1, 6));
+        assertEquals(1, list.removeAt(2));
+        assertEquals(1, list.indexOf(6));
+        assertEquals(-1, list.indexOf(1));
+        assertFalse(list.contains(1));
+        list.sort();
+        assertArrayEquals(new int[]{2, 4, 5, 6}, list.toArray());
+        assertEquals(17, list.stream().sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(4));
+
+        int sum = 0;
+        for (PrimitiveIterator.OfInt it = list.iterator(); it.hasNext(); ) {
+            sum += it.nextInt();
+        }
+        assertEquals(17, sum);
+
+        List<Integer> boxed = list.asList();
+        assertEquals(Arrays.asList(2, 4, 5, 6), boxed);
+        assertEquals(boxed.hashCode(), list.hashCode());
+        boxed.remove(0);
+        boxed.add(7);
+        assertEquals(IntArrayList.of(4, 5, 6, 7), list);
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        assertEquals(0, list.toArray().length);
+    }
+
+    @Test
+    void growth() {
+        LongArrayList list = new LongArrayList();
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < 1000; i++) {
+            list.add(i * i);
+            expected.add(i * i);
+        }
+        list.addAll(LongArrayList.of(-1, -2));
+        expected.addAll(Arrays.asList(-1L, -2L));
+        assertEquals(expected, list.asList());
+        assertEquals(expected.hashCode(), list.hashCode());
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+        assertEquals(expected.stream().mapToLong(Long::longValue).sum(), sum[0]);
+        assertEquals(sum[0], list.stream().sum());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.collection.primitive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class PrimitiveHashTest {
+
+    /**
+     * Keys from a small range, so that adds, removes and lookups hit the same keys and the tables go through many deletions
+     */
+    @Test
+    void intHashSet() {
+        Random random = new Random(42);
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.add(key), set.add(key));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), set.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.contains(key), set.contains(key));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        assertEquals(expected, Arrays.stream(set.toArray()).boxed().collect(Collectors.toSet()));
+        assertEquals(expected, set.stream().boxed().collect(Collectors.toSet()));
+        assertEquals(expected.hashCode(), set.hashCode());
+        IntHashSet copy = IntHashSet.of(set.toArray());
+        assertEquals(set, copy);
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    void intIntHashMap() {
+        Random random = new Random(42);
+        IntIntHashMap map = new IntIntHashMap();
+        Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            int value = random.nextInt();
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals((int) expected.getOrDefault(key, 0), map.put(key, value));
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    assertEquals((int) expected.getOrDefault(key, 0), map.remove(key));
+                    expected.remove(key);
+                    break;
+                case 2:
+                    assertEquals((int) expected.merge(key, 1, Integer::sum), map.addTo(key, 1));
+                    break;
+                default:
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                    assertEquals((int) expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Integer, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), map.hashCode());
+        int[] keys = map.keys();
+        int[] values = map.values();
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals((int) expected.get(keys[i]), values[i]);
+        }
+        assertEquals(7, map.computeIfAbsent(5000, k -> 7));
+        assertEquals(7, map.computeIfAbsent(5000, k -> 8));
+    }
+
+    @Test
+    void longObjectHashMap() {
+        Random random = new Random(42);
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+        Map<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            // Keys that differ in the high bits only must not collide
+            long key = (long) (random.nextInt(2000) - 1000) << 40;
+            String value = Integer.toString(random.nextInt(10));
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        Map<Long, String> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals("x", map.computeIfAbsent(1, k -> "x"));
+        assertEquals("x", map.computeIfAbsent(1, k -> "y"));
+        map.clear();
+        assertNull(map.get(1));
+        assertEquals("{}", map.toString());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class CacheLongAdderTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    @Test
+    void sum() {
+        CacheLongAdder adder = new CacheLongAdder(10, TimeUnit.MILLISECONDS, ticker);
+        adder.add(3);
+        assertEquals(3, adder.sum());
+        adder.increment();
+        assertEquals(3, adder.sum());
+        assertEquals(4, adder.exactSum());
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(11));
+        assertEquals(4, adder.sum());
+
+        assertEquals(4, adder.sumThenReset());
+        assertEquals(0, adder.sum());
+        adder.add(2);
+        adder.reset();
+        assertEquals(0, adder.sum());
+    }
+
+    @Test
+    void noStaleness() {
+        CacheLongAdder adder = new CacheLongAdder(0, TimeUnit.MILLISECONDS);
+        for (int i = 1; i <= 100; i++) {
+            adder.increment();
+            assertEquals(i, adder.sum());
+        }
+
+        // Not cached even if the ticker does not move between the reads
+        CacheLongAdder sameTick = new CacheLongAdder(0, TimeUnit.MILLISECONDS, ticker);
+        sameTick.add(3);
+        assertEquals(3, sameTick.sum());
+        sameTick.increment();
+        assertEquals(4, sameTick.sum());
+    }
+
+    @Test
+    void rate() {
+        CacheLongAdder adder = new CacheLongAdder(10, TimeUnit.MILLISECONDS, ticker);
+        adder.add(50);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        CacheLongAdder.Rate rate = adder.rate();
+        assertEquals(50, rate.count);
+        assertEquals(100.0, rate.perSecond(), 1e-9);
+
+        adder.add(7);
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rate = adder.rate();
+        assertEquals(7, rate.count);
+        assertEquals(7.0, rate.perSecond(), 1e-9);
+        assertEquals(0.0, adder.rate().perSecond(), 1e-9);
+    }
+}
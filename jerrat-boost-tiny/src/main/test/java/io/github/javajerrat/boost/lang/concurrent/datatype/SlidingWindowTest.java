@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.github.javajerrat.boost.lang.concurrent.datatype.WindowedHistogram.Snapshot;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class SlidingWindowTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private void sleep(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    void counter() {
+        SlidingWindowCounter counter = SlidingWindowCounter.of(10, TimeUnit.SECONDS, 10, ticker);
+        for (int second = 0; second < 10; second++) {
+            counter.add(second + 1);
+            sleep(1000);
+        }
+        // The bucket of the first second just expired
+        assertEquals(54, counter.sum());
+        assertEquals(5.4, counter.rate(), 1e-9);
+        sleep(5000);
+        assertEquals(7 + 8 + 9 + 10, counter.sum());
+        counter.increment();
+        sleep(60_000);
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    void histogram() {
+        WindowedHistogram histogram = WindowedHistogram.of(WindowedHistogram.Config.of()
+            .window(10).unit(TimeUnit.SECONDS).buckets(5).highestValue(1_000_000).ticker(ticker));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+        Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count);
+        assertEquals(500.5, snapshot.mean(), 1e-9);
+        assertEquals(1000, snapshot.max);
+        assertEquals(1, snapshot.valueAtPercentile(0));
+        assertEquals(1000, snapshot.valueAtPercentile(100));
+        assertEquals(500, snapshot.valueAtPercentile(50), 500 / 128.0);
+        assertEquals(990, snapshot.valueAtPercentile(99), 990 / 128.0);
+
+        histogram.record(5_000_000);
+        assertEquals(1_000_000, histogram.snapshot().max);
+
+        sleep(10_000);
+        assertEquals(0, histogram.snapshot().count);
+        assertEquals(0, histogram.snapshot().valueAtPercentile(99));
+    }
+
+    @Test
+    void histogramPrecision() {
+        Random random = new Random(7);
+        for (int precisionBits = 1; precisionBits <= 10; precisionBits++) {
+            int last = -1;
+            for (int i = 0; i < 10_000; i++) {
+                long value = i < 5000 ? i : random.nextLong() >>> random.nextInt(63);
+                int index = WindowedHistogram.indexOf(value, precisionBits);
+                long highest = WindowedHistogram.highestEquivalentValue(index, precisionBits);
+                assertTrue(highest >= value && highest - value <= value >>> precisionBits, value + " -> " + highest);
+                if (i < 5000) {
+                    assertTrue(index == last || index == last + 1);
+                    last = index;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.datatype;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class StripedAtomicPositiveIntegerTest {
+
+    @Test
+    void getAndIncrement() {
+        StripedAtomicPositiveInteger counter = new StripedAtomicPositiveInteger(Integer.MAX_VALUE - 1);
+        assertEquals(Integer.MAX_VALUE - 1, counter.getAndIncrement());
+        assertEquals(Integer.MAX_VALUE, counter.getAndIncrement());
+        assertEquals(0, counter.getAndIncrement());
+        assertEquals(1, counter.get());
+        assertThrows(IllegalArgumentException.class, () -> new StripedAtomicPositiveInteger(-1));
+    }
+
+    @Test
+    void nextIndex() {
+        StripedAtomicPositiveInteger counter = new StripedAtomicPositiveInteger();
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i % 3, counter.nextIndex(3));
+        }
+        assertEquals(20 % 4, counter.nextIndex(4));
+        assertThrows(IllegalArgumentException.class, () -> counter.nextIndex(0));
+    }
+
+    @Test
+    void grow() {
+        StripedAtomicPositiveInteger counter = new StripedAtomicPositiveInteger(10, 4);
+        assertEquals(1, counter.stripes());
+        counter.grow();
+        assertEquals(2, counter.stripes());
+        // The first cell keeps its value, the new one starts next to it
+        assertEquals(10, counter.get());
+        int value = counter.getAndIncrement();
+        assertTrue(value == 10 || value == 11, "value " + value);
+
+        counter.grow();
+        assertEquals(4, counter.stripes());
+        counter.grow();
+        assertEquals(4, counter.stripes());
+
+        // A thread counts on a single cell, whose values stay consecutive
+        int[] picks = new int[4];
+        for (int i = 0; i < 400; i++) {
+            picks[counter.nextIndex(4)]++;
+        }
+        for (int pick : picks) {
+            assertEquals(100, pick);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new StripedAtomicPositiveInteger(0, 3));
+    }
+
+    @Test
+    void contended() throws InterruptedException {
+        // Allow striping even on a machine with few processors
+        StripedAtomicPositiveInteger counter = new StripedAtomicPositiveInteger(0, 8);
+        int candidates = 5;
+        AtomicIntegerArray picks = new AtomicIntegerArray(candidates);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    picks.incrementAndGet(counter.nextIndex(candidates));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(counter.stripes() <= 8);
+        for (int i = 0; i < candidates; i++) {
+            // Every cell runs through the candidates in order, only increments racing with a resize may repeat
+            assertTrue(Math.abs(picks.get(i) - 800_000 / candidates) <= 800_000 / candidates / 100, "candidate " + i + ": " + picks.get(i));
+        }
+    }
+}
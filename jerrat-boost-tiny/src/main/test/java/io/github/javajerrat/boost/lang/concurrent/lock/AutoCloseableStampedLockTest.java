@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.javajerrat.boost.lang.concurrent.lock.AutoCloseableStampedLock.Stamp;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.StampedLock;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class AutoCloseableStampedLockTest {
+
+    private int x;
+    private int y;
+
+    @Test
+    void optimisticRead() {
+        StampedLock lock = new StampedLock();
+        AtomicInteger runs = new AtomicInteger();
+        x = 1;
+        y = 2;
+        assertEquals(3, (int) Locks.optimisticRead(lock, () -> {
+            runs.incrementAndGet();
+            return x + y;
+        }));
+        assertEquals(1, runs.get());
+
+        // A write during the optimistic read makes it run again under the read lock
+        assertEquals(30, (int) Locks.optimisticRead(lock, () -> {
+            if (runs.incrementAndGet() == 2) {
+                long stamp = lock.writeLock();
+                x = 10;
+                y = 20;
+                lock.unlockWrite(stamp);
+            }
+            return x + y;
+        }));
+        assertEquals(3, runs.get());
+        assertFalse(lock.isReadLocked());
+    }
+
+    @Test
+    void stamps() {
+        AutoCloseableStampedLock lock = Locks.autoCloseableStampedLock(new StampedLock());
+        try (Stamp stamp = lock.withReadStamp()) {
+            assertTrue(lock.stampedLock().isReadLocked());
+            assertTrue(stamp.tryConvertToWrite());
+            assertTrue(stamp.isWrite());
+            assertTrue(lock.stampedLock().isWriteLocked());
+            stamp.convertToRead();
+            assertTrue(lock.stampedLock().isReadLocked());
+        }
+        assertFalse(lock.stampedLock().isReadLocked());
+
+        try (Stamp stamp = lock.withWriteStamp()) {
+            assertTrue(stamp.isWrite());
+        }
+        assertFalse(lock.stampedLock().isWriteLocked());
+    }
+
+    @Test
+    void convertWithOtherReaders() throws InterruptedException {
+        AutoCloseableStampedLock lock = Locks.autoCloseableStampedLock(new StampedLock());
+        CountDownLatch reading = new CountDownLatch(1);
+        Thread main = Thread.currentThread();
+        Thread reader = new Thread(() -> {
+            long stamp = lock.stampedLock().readLock();
+            reading.countDown();
+            // Release only once the main thread has failed the in-place conversion and is parked waiting for the write lock
+            while (LockSupport.getBlocker(main) != lock.stampedLock()) {
+                Thread.yield();
+            }
+            lock.stampedLock().unlockRead(stamp);
+        });
+        reader.start();
+        reading.await();
+        try (Stamp stamp = lock.withReadStamp()) {
+            assertFalse(stamp.tryConvertToWrite());
+            assertFalse(stamp.convertToWrite());
+            assertTrue(lock.stampedLock().isWriteLocked());
+        }
+        reader.join();
+        assertFalse(lock.stampedLock().isWriteLocked());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Ticker;
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class LockMonitorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return nanos.get();
+        }
+    };
+
+    private final LockMonitor monitor = LockMonitor.of(LockMonitor.Config.of().ticker(ticker));
+
+    @Test
+    void holdTime() {
+        AutoCloseableLock lock = Locks.autoCloseableLock(monitor.instrument("a", new ReentrantLock()));
+        try (UncheckedAutoCloseable ignore = lock.withLock()) {
+            try (UncheckedAutoCloseable reentered = lock.withLock()) {
+                nanos.addAndGet(1000);
+            }
+            nanos.addAndGet(1000);
+        }
+        LockMonitor.Snapshot snapshot = monitor.snapshot("a");
+        assertEquals(2, snapshot.acquisitions);
+        assertEquals(0, snapshot.contentions);
+        assertEquals(1, snapshot.holdNanos.count);
+        assertEquals(2000, snapshot.holdNanos.max);
+        assertTrue(snapshot.topWaiters.isEmpty());
+        assertNull(monitor.snapshot("b"));
+    }
+
+    @Test
+    void contention() throws InterruptedException {
+        ReentrantLock delegate = new ReentrantLock();
+        InstrumentedLock lock = monitor.instrument("a", delegate);
+        lock.lock();
+        Thread waiter = new Thread(() -> {
+            lock.lock();
+            lock.unlock();
+        }, "waiter");
+        waiter.start();
+        while (!delegate.hasQueuedThreads()) {
+            Thread.yield();
+        }
+        nanos.addAndGet(5000);
+        lock.unlock();
+        waiter.join();
+
+        assertTrue(lock.tryLock(0, TimeUnit.NANOSECONDS));
+        lock.unlock();
+
+        LockMonitor.Snapshot snapshot = monitor.snapshot("a");
+        assertEquals(3, snapshot.acquisitions);
+        assertEquals(1, snapshot.contentions);
+        assertEquals(5000, snapshot.waitNanos.max);
+        assertEquals(1, snapshot.topWaiters.size());
+        assertEquals("waiter", snapshot.topWaiters.get(0).threadName);
+        assertEquals(5000, snapshot.topWaiters.get(0).waitNanos);
+        assertEquals(1, monitor.snapshots().size());
+    }
+
+    @Test
+    void disabled() {
+        InstrumentedLock lock = monitor.instrument("a", new ReentrantLock());
+        monitor.setEnabled(false);
+        lock.lock();
+        monitor.setEnabled(true);
+        nanos.addAndGet(1000);
+        lock.unlock();
+        LockMonitor.Snapshot snapshot = monitor.snapshot("a");
+        assertEquals(0, snapshot.acquisitions);
+        assertEquals(0, snapshot.holdNanos.count);
+    }
+
+    @Test
+    void sharedName() {
+        monitor.instrument("a", new ReentrantLock()).lock();
+        InstrumentedLock other = monitor.instrument("a", new ReentrantLock());
+        other.lock();
+        other.unlock();
+        assertEquals(2, monitor.snapshot("a").acquisitions);
+        assertEquals(1, monitor.snapshot("a").holdNanos.count);
+    }
+}
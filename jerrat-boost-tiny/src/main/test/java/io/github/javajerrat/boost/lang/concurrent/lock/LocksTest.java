@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class LocksTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    /**
+     * Hold the lock in another thread until the test ends
+     */
+    private void holdElsewhere(Lock lock) throws InterruptedException {
+        CountDownLatch locked = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+        holder.setDaemon(true);
+        holder.start();
+        locked.await();
+    }
+
+    @Test
+    void withSynchronizedTimeout() throws InterruptedException {
+        ReentrantLock lock = new ReentrantLock();
+        holdElsewhere(lock);
+        TimeoutException first = assertThrows(TimeoutException.class,
+            () -> Locks.withSynchronized(lock, 1, TimeUnit.MILLISECONDS, () -> { }));
+        TimeoutException second = assertThrows(TimeoutException.class,
+            () -> Locks.withSynchronized(lock, 1, TimeUnit.MILLISECONDS, () -> 1));
+        assertEquals(0, first.getStackTrace().length);
+        // Not shared, so what a caller adds to one does not show on the others
+        assertNotSame(first, second);
+        first.addSuppressed(new IllegalStateException());
+        assertEquals(0, second.getSuppressed().length);
+    }
+
+    @Test
+    void tryWithSynchronized() throws InterruptedException {
+        ReentrantLock lock = new ReentrantLock();
+        int[] runs = new int[1];
+        assertTrue(Locks.tryWithSynchronized(lock, 1, TimeUnit.MILLISECONDS, () -> runs[0]++));
+        assertEquals("a1", Locks.tryWithSynchronized(lock, 1, TimeUnit.MILLISECONDS, "a", s -> s + 1, "timeout"));
+        assertEquals(3, Locks.tryWithSynchronizedToInt(lock, 1, TimeUnit.MILLISECONDS, "abc", String::length, -1));
+        assertEquals(3L, Locks.tryWithSynchronizedToLong(lock, 1, TimeUnit.MILLISECONDS, "abc", String::length, -1L));
+        assertTrue(Locks.tryWithSynchronizedToBoolean(lock, 1, TimeUnit.MILLISECONDS, "abc", s -> lock.isHeldByCurrentThread(), false));
+        assertFalse(lock.isLocked());
+
+        holdElsewhere(lock);
+        assertFalse(Locks.tryWithSynchronized(lock, 1, TimeUnit.MILLISECONDS, () -> runs[0]++));
+        assertEquals(1, runs[0]);
+        assertEquals("timeout", Locks.tryWithSynchronized(lock, 1, TimeUnit.MILLISECONDS, "a", s -> s + 1, "timeout"));
+        assertEquals(-1, Locks.tryWithSynchronizedToInt(lock, 1, TimeUnit.MILLISECONDS, "abc", String::length, -1));
+        assertEquals(-1L, Locks.tryWithSynchronizedToLong(lock, 1, TimeUnit.MILLISECONDS, "abc", String::length, -1L));
+        assertFalse(Locks.tryWithSynchronizedToBoolean(lock, 1, TimeUnit.MILLISECONDS, "abc", s -> true, false));
+    }
+
+    @Test
+    void keyed() throws InterruptedException {
+        StripedLocks<AutoCloseableLock> locks = StripedLocks.lock(4);
+        try (UncheckedAutoCloseable locked = Locks.tryWithLock(locks, "a", 1, TimeUnit.MILLISECONDS)) {
+            assertNotNull(locked);
+        }
+        assertEquals("a!", Locks.tryWithSynchronized(locks, "a", 1, TimeUnit.MILLISECONDS, k -> k + "!", null));
+
+        holdElsewhere(locks.get("a"));
+        try (UncheckedAutoCloseable locked = Locks.tryWithLock(locks, "a", 1, TimeUnit.MILLISECONDS)) {
+            assertNull(locked);
+        }
+        assertNull(Locks.tryWithSynchronized(locks, "a", 1, TimeUnit.MILLISECONDS, k -> k + "!", null));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+
+ * http://www.apache.org/licenses/LICENSE-2.0
+
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.javajerrat.boost.lang.concurrent.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.javajerrat.boost.lang.datatype.interfaces.UncheckedAutoCloseable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Lombok;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Frapples <isfrapples@outlook.com>
+ * @date 2026/10/17
+ */
+class StripedLocksTest {
+
+    @Test
+    void get() {
+        StripedLocks<AutoCloseableLock> locks = StripedLocks.lock(10);
+        assertEquals(16, locks.size());
+        assertSame(locks.get("a"), locks.get(new String("a")));
+        long used = IntStream.range(0, 1000).map(locks::indexOf).distinct().count();
+        assertEquals(16, used);
+
+        try (UncheckedAutoCloseable ignore = locks.get(1).withLock()) {
+            assertTrue(isHeldByOtherThread(locks.get(1)));
+        }
+        assertFalse(isHeldByOtherThread(locks.get(1)));
+    }
+
+    private static boolean isHeldByOtherThread(AutoCloseableLock lock) {
+        AtomicInteger acquired = new AtomicInteger();
+        Thread thread = new Thread(() -> {
+            if (lock.tryLock()) {
+                acquired.incrementAndGet();
+                lock.unlock();
+            }
+        });
+        thread.start();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            throw Lombok.sneakyThrow(e);
+        }
+        return acquired.get() == 0;
+    }
+
+    @Test
+    void readWrite() {
+        StripedLocks<AutoCloseableReadWriteLock> locks = StripedLocks.readWriteLock(4);
+        try (UncheckedAutoCloseable ignore = locks.get("k").withRead()) {
+            assertFalse(isHeldByOtherThread(locks.get("k").readLock()));
+            assertTrue(isHeldByOtherThread(locks.get("k").writeLock()));
+        }
+        try (UncheckedAutoCloseable ignore = locks.get("k").withWrite()) {
+            assertTrue(isHeldByOtherThread(locks.get("k").readLock()));
+        }
+        assertFalse(isHeldByOtherThread(locks.get("k").writeLock()));
+    }
+
+    @Test
+    void stamped() {
+        StripedLocks<AutoCloseableStampedLock> locks = StripedLocks.stampedLock(4);
+        int[] value = {1};
+        assertEquals(1, (int) locks.get("k").optimisticRead(() -> value[0]));
+        try (UncheckedAutoCloseable ignore = locks.get("k").withWrite()) {
+            value[0] = 2;
+            assertTrue(isHeldByOtherThread(locks.get("k").readLock()));
+        }
+        assertEquals(2, (int) locks.get("k").optimisticRead(() -> value[0]));
+    }
+
+    @Test
+    void withAll() throws InterruptedException {
+        StripedLocks<AutoCloseableReadWriteLock> locks = StripedLocks.readWriteLock(64);
+        List<Integer> keys = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+        List<AutoCloseableReadWriteLock> bulk = locks.bulkGet(keys);
+        List<AutoCloseableReadWriteLock> expected = keys.stream().map(locks::indexOf).distinct().sorted()
+            .map(locks::getAt).collect(Collectors.toList());
+        assertEquals(expected, bulk);
+
+        // Overlapping sets in opposite orders do not deadlock
+        AtomicInteger counter = new AtomicInteger();
+        List<Integer> reversed = new ArrayList<>(keys);
+        Collections.reverse(reversed);
+        List<Thread> threads = new ArrayList<>();
+        for (List<Integer> order : Arrays.asList(keys, reversed, keys, reversed)) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    try (UncheckedAutoCloseable ignore = locks.withAll(order, AutoCloseableReadWriteLock::withWrite)) {
+                        counter.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4000, counter.get());
+
+        // A failed acquisition releases the locks acquired before it
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(TimeoutException.class, () -> locks.withAll(keys, lock -> {
+            if (calls.incrementAndGet() == 3) {
+                throw Lombok.sneakyThrow(new TimeoutException());
+            }
+            return lock.withWrite();
+        }));
+        for (AutoCloseableReadWriteLock lock : bulk) {
+            assertFalse(isHeldByOtherThread(lock.writeLock()));
+        }
+    }
+}